@@ -0,0 +1,41 @@
+package com.pmu.courses_manager.application.api;
+
+import com.pmu.courses_manager.application.api.dto.ChangePageDto;
+import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.ChangePage;
+import com.pmu.courses_manager.domain.port.in.ChangeFeedUseCase;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur REST du flux de changements, pour la synchronisation incrémentale des clients
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeResources implements ChangeResourcesApi {
+
+    private final ChangeFeedUseCase changeFeedUseCase;
+    private final ApplicationMapper mapper;
+
+    public ChangeResources(ChangeFeedUseCase changeFeedUseCase, ApplicationMapper mapper) {
+        this.changeFeedUseCase = changeFeedUseCase;
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping
+    @Bulkhead(name = CourseResources.READS)
+    public ResponseEntity<ChangePageDto> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "" + ChangeFeedUseCase.DEFAULT_PAGE_SIZE) int limit) {
+        ChangePage page = changeFeedUseCase.getChanges(since, limit);
+        return ResponseEntity.ok(mapper.mapToChangePageDto(page));
+    }
+}
@@ -0,0 +1,47 @@
+package com.pmu.courses_manager.application.api;
+
+import com.pmu.courses_manager.application.api.dto.ChangePageDto;
+import com.pmu.courses_manager.application.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Interface de documentation pour le flux de changements
+ */
+@Tag(name = "Changements", description = "API de synchronisation incrémentale des courses et des participants")
+public interface ChangeResourcesApi {
+
+    /**
+     * Liste les changements postérieurs à un curseur
+     */
+    @Operation(
+            summary = "Liste les changements depuis un curseur",
+            description = "Renvoie les créations, modifications et suppressions de course ainsi que les inscriptions " +
+                    "postérieures au curseur 'since', dans leur ordre d'enregistrement. Le champ 'next' est le curseur " +
+                    "à transmettre ensuite ; 'hasMore' indique qu'une page suivante est déjà disponible. " +
+                    "Si 'resync' est vrai, l'historique ne remonte plus jusqu'au curseur : le client doit recharger " +
+                    "les courses puis reprendre le flux depuis 'next'."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changements récupérés avec succès",
+                    content = @Content(schema = @Schema(implementation = ChangePageDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Curseur invalide",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<ChangePageDto> getChanges(
+            @Parameter(description = "Dernier curseur reçu (0 pour partir du début)") @RequestParam long since,
+            @Parameter(description = "Nombre de changements par page (borné à 500)") @RequestParam int limit);
+}
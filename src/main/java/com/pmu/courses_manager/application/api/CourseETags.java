@@ -0,0 +1,68 @@
+package com.pmu.courses_manager.application.api;
+
+import java.util.Optional;
+
+/**
+ * ETags forts dérivés de la version d'une course : {@code "12"} pour le JSON brut,
+ * {@code "12-gzip"} pour sa variante compressée (un validateur fort identifie aussi l'encodage).
+ */
+final class CourseETags {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private CourseETags() {
+    }
+
+    static String of(long version, boolean gzip) {
+        return "\"" + version + (gzip ? GZIP_SUFFIX : "") + "\"";
+    }
+
+    /**
+     * Renvoie l'ETag de {@code If-None-Match} désignant la version donnée (comparaison faible,
+     * quel que soit l'encodage), ou vide si aucun ne correspond
+     */
+    static Optional<String> matching(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if ("*".equals(trimmed)) {
+                return Optional.of(of(version, false));
+            }
+            Long tagVersion = version(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed);
+            if (tagVersion != null && tagVersion == version) {
+                return Optional.of(trimmed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Version attendue par {@code If-Match} : vide pour {@code *} ; un ETag illisible ou faible
+     * ne peut correspondre à aucune version et donne -1
+     */
+    static Optional<Long> expectedVersion(String ifMatch) {
+        String trimmed = ifMatch.trim();
+        if ("*".equals(trimmed)) {
+            return Optional.empty();
+        }
+        Long version = version(trimmed);
+        return Optional.of(version == null ? -1L : version);
+    }
+
+    private static Long version(String tag) {
+        if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return null;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        if (value.endsWith(GZIP_SUFFIX)) {
+            value = value.substring(0, value.length() - GZIP_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pmu.courses_manager.application.api;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+
+/**
+ * Événement applicatif signalant que les copies locales d'une course sont périmées.
+ * Un identifiant absent signifie que toutes les courses le sont.
+ */
+public record CourseEvictedEvent(CourseId courseId) {
+
+    public static CourseEvictedEvent all() {
+        return new CourseEvictedEvent(null);
+    }
+
+    public boolean isAll() {
+        return courseId == null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.pmu.courses_manager.application.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pmu.courses_manager.application.api.request.ImportCoursesRequest;
+import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+import com.pmu.courses_manager.domain.model.CourseImportResult;
+import com.pmu.courses_manager.domain.port.in.CourseImportUseCase;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * Contrôleur REST pour l'import d'un programme complet, en JSON ou en CSV
+ */
+@RestController
+@RequestMapping("/api/courses/import")
+public class CourseImportResources implements CourseImportResourcesApi {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final CourseImportUseCase courseImportUseCase;
+    private final ApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    public CourseImportResources(CourseImportUseCase courseImportUseCase, ApplicationMapper mapper, ObjectMapper objectMapper) {
+        this.courseImportUseCase = courseImportUseCase;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Bulkhead(name = CourseResources.WRITES)
+    public ResponseEntity<StreamingResponseBody> importCourses(@Valid @RequestBody ImportCoursesRequest request) {
+        List<CourseImportItem> items = request.courses().stream()
+                .map(mapper::mapToCourseImportItem)
+                .toList();
+        return stream(courseImportUseCase.importCourses(items));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @PostMapping(consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Bulkhead(name = CourseResources.WRITES)
+    public ResponseEntity<StreamingResponseBody> importCoursesCsv(@RequestBody String csv) {
+        return stream(courseImportUseCase.importCourses(RaceCardCsv.parse(csv)));
+    }
+
+    /**
+     * Les résultats ne sont écrits qu'après le commit : une course n'est jamais annoncée créée
+     * avant de l'être. Chaque ligne est envoyée dès qu'elle est encodée, sans construire la réponse entière.
+     */
+    private ResponseEntity<StreamingResponseBody> stream(List<CourseImportResult> results) {
+        StreamingResponseBody body = out -> {
+            for (CourseImportResult result : results) {
+                out.write(objectMapper.writeValueAsBytes(mapper.mapToCourseImportResultDto(result)));
+                out.write('\n');
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,78 @@
+package com.pmu.courses_manager.application.api;
+
+import com.pmu.courses_manager.application.api.dto.CourseImportResultDto;
+import com.pmu.courses_manager.application.api.request.ImportCoursesRequest;
+import com.pmu.courses_manager.application.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Interface de documentation pour l'import de programme
+ */
+@Tag(name = "Import", description = "API d'import d'un programme complet de courses et de participants")
+public interface CourseImportResourcesApi {
+
+    /**
+     * Importe un programme décrit en JSON
+     */
+    @Operation(
+            summary = "Importe un programme (JSON)",
+            description = "Crée par lots toutes les courses valides du programme, avec leurs participants " +
+                    "(dossards attribués dans l'ordre de la liste). Une course invalide, déjà existante ou présente " +
+                    "plusieurs fois est rejetée sans bloquer les autres. La réponse contient un résultat JSON par ligne " +
+                    "et par course, dans l'ordre de l'import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import effectué : un résultat par course",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = CourseImportResultDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Liste de courses vide ou trop longue"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Course créée simultanément par ailleurs : les lots suivants sont annulés, l'import peut être rejoué",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<StreamingResponseBody> importCourses(ImportCoursesRequest request);
+
+    /**
+     * Importe un programme décrit en CSV
+     */
+    @Operation(
+            summary = "Importe un programme (CSV)",
+            description = "Même traitement que l'import JSON. Le fichier contient une ligne par participant et un en-tête " +
+                    "nommant les colonnes 'date' (AAAA-MM-JJ), 'numero', 'nom' et 'participant' ; les lignes d'une même " +
+                    "course sont regroupées dans l'ordre du fichier. Séparateur ';' ou ','."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import effectué : un résultat par course",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = CourseImportResultDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Fichier CSV illisible, vide ou trop long",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Course créée simultanément par ailleurs : les lots suivants sont annulés, l'import peut être rejoué",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<StreamingResponseBody> importCoursesCsv(String csv);
+}
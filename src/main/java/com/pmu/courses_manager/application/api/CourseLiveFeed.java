@@ -0,0 +1,308 @@
+package com.pmu.courses_manager.application.api;
+
+import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.CourseActivityEvent;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Diffusion en direct des changements d'une course à ses abonnés (Server-Sent Events).
+ * <p>
+ * Chaque abonné dispose d'une file bornée ({@code live-feed.buffer-size}) vidée par les threads
+ * {@code liveFeedExecutor} : la diffusion d'un événement ne fait que le déposer dans les files,
+ * sans jamais écrire sur une connexion. Un abonné dont la file est pleine est un client trop lent :
+ * il est déconnecté et ses événements en attente abandonnés ; il se réabonnera et recevra un nouvel état initial.
+ * <p>
+ * L'abonné est inscrit avant la lecture de son état initial : les changements reçus entre-temps sont
+ * mis de côté, puis transmis après l'état initial, sans les inscriptions qu'il contient déjà.
+ * <p>
+ * Événements émis : {@code participants} (état initial), {@code participant-added},
+ * {@code course-updated} et {@code course-deleted}, qui clôt le flux. Un commentaire est envoyé
+ * périodiquement ({@code live-feed.heartbeat}) pour détecter les connexions mortes.
+ */
+@Component
+public class CourseLiveFeed {
+
+    static final String PARTICIPANTS = "participants";
+    static final String PARTICIPANT_ADDED = "participant-added";
+    static final String COURSE_UPDATED = "course-updated";
+    static final String COURSE_DELETED = "course-deleted";
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Executor executor;
+    private final ApplicationMapper mapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Counter evictions;
+
+    public CourseLiveFeed(@Qualifier("liveFeedExecutor") Executor executor,
+                          ApplicationMapper mapper,
+                          @Value("${live-feed.buffer-size:256}") int bufferSize,
+                          @Value("${live-feed.timeout:30m}") Duration timeout,
+                          MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.mapper = mapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("live-feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Abonnés connectés au flux en direct des courses")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("live-feed.evictions")
+                .description("Abonnés déconnectés pour lenteur")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abonne un client aux changements d'une course ; les participants lus par {@code snapshot}
+     * lui sont envoyés en premier. La lecture a lieu après l'inscription : aucun changement validé
+     * n'est perdu entre l'état initial et le flux. Une exception de lecture annule l'abonnement.
+     */
+    public SseEmitter subscribe(CourseId courseId, Supplier<Collection<Participant>> snapshot) {
+        return subscribe(courseId, new SseEmitter(timeoutMillis), snapshot);
+    }
+
+    /**
+     * Comme {@link #subscribe(CourseId, Supplier)}, avec un émetteur fourni par l'appelant
+     */
+    public SseEmitter subscribe(CourseId courseId, SseEmitter emitter, Supplier<Collection<Participant>> snapshot) {
+        Subscriber subscriber = new Subscriber(courseId.getValue(), emitter);
+        emitter.onCompletion(subscriber::disconnected);
+        emitter.onError(error -> subscriber.disconnected());
+        emitter.onTimeout(() -> {
+            subscriber.disconnected();
+            emitter.complete();
+        });
+        subscribers.compute(courseId.getValue(), (id, courseSubscribers) -> {
+            Set<Subscriber> updated = courseSubscribers == null ? ConcurrentHashMap.newKeySet() : courseSubscribers;
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+        Collection<Participant> participants;
+        try {
+            participants = snapshot.get();
+        } catch (RuntimeException e) {
+            subscriber.disconnected();
+            throw e;
+        }
+        subscriber.start(participants);
+        return emitter;
+    }
+
+    @EventListener
+    public void onCourseActivity(CourseActivityEvent event) {
+        Set<Subscriber> courseSubscribers = subscribers.get(event.courseId().getValue());
+        if (courseSubscribers == null || courseSubscribers.isEmpty()) {
+            return;
+        }
+        // Construit une seule fois : le même contenu est déposé dans la file de chaque abonné
+        Set<ResponseBodyEmitter.DataWithMediaType> sseEvent = toSseEvent(event);
+        for (Subscriber subscriber : courseSubscribers) {
+            subscriber.deliver(event, sseEvent);
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> toSseEvent(CourseActivityEvent event) {
+        SseEmitter.SseEventBuilder builder = switch (event.type()) {
+            case PARTICIPANT_ADDED -> SseEmitter.event().name(PARTICIPANT_ADDED)
+                    .data(mapper.mapToParticipantDto(event.participant()), MediaType.APPLICATION_JSON);
+            case COURSE_UPDATED -> SseEmitter.event().name(COURSE_UPDATED)
+                    .data(mapper.mapToCourseDto(event.course()), MediaType.APPLICATION_JSON);
+            case COURSE_DELETED -> SseEmitter.event().name(COURSE_DELETED)
+                    .data(event.courseId().getValue(), MediaType.APPLICATION_JSON);
+        };
+        return builder.build();
+    }
+
+    @Scheduled(fixedDelayString = "${live-feed.heartbeat:15s}")
+    public void heartbeat() {
+        for (Set<Subscriber> courseSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : courseSubscribers) {
+                if (!subscriber.awaitingSnapshot()) {
+                    offer(subscriber, HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * Nombre d'abonnés connectés, toutes courses confondues
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Dépose l'événement dans la file de l'abonné, ou le déconnecte si elle est pleine
+     */
+    private boolean offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (subscriber.queue.offer(event)) {
+            subscriber.schedule();
+            return true;
+        }
+        if (subscriber.close()) {
+            evictions.increment();
+        }
+        subscriber.queue.clear();
+        subscriber.schedule();
+        return false;
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final Long courseId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closeAfterDrain;
+        /**
+         * Changements reçus avant l'état initial, gardés sous le verrou de l'abonné ; {@code null} une fois celui-ci envoyé
+         */
+        private List<CourseActivityEvent> pending = new ArrayList<>();
+
+        private Subscriber(Long courseId, SseEmitter emitter) {
+            this.courseId = courseId;
+            this.emitter = emitter;
+        }
+
+        private boolean awaitingSnapshot() {
+            synchronized (this) {
+                return pending != null;
+            }
+        }
+
+        /**
+         * Envoie l'état initial, puis les changements mis de côté pendant sa lecture,
+         * hormis les inscriptions qu'il contient déjà
+         */
+        private synchronized void start(Collection<Participant> participants) {
+            List<CourseActivityEvent> received = pending;
+            pending = null;
+            if (closed.get()) {
+                return;
+            }
+            offer(this, SseEmitter.event().name(PARTICIPANTS)
+                    .data(participants.stream().map(mapper::mapToParticipantDto).toList(), MediaType.APPLICATION_JSON)
+                    .build());
+            Set<ParticipantId> known = participants.stream().map(Participant::getId).collect(Collectors.toSet());
+            for (CourseActivityEvent event : received) {
+                if (event.type() != CourseActivityEvent.Type.PARTICIPANT_ADDED || !known.contains(event.participant().getId())) {
+                    deliver(event, toSseEvent(event));
+                }
+            }
+        }
+
+        /**
+         * Met le changement de côté tant que l'état initial n'est pas envoyé, sinon le dépose dans la file ;
+         * la mise de côté est bornée comme la file
+         */
+        private synchronized void deliver(CourseActivityEvent event, Set<ResponseBodyEmitter.DataWithMediaType> sseEvent) {
+            if (pending != null) {
+                if (pending.size() < bufferSize) {
+                    pending.add(event);
+                } else if (close()) {
+                    evictions.increment();
+                    schedule();
+                }
+                return;
+            }
+            if (offer(this, sseEvent) && event.type() == CourseActivityEvent.Type.COURSE_DELETED) {
+                closeAfterDrain();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Une seule passe à la fois par abonné : les événements sont écrits dans l'ordre de dépôt
+         */
+        @Override
+        public void run() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+                if (closeAfterDrain && queue.isEmpty()) {
+                    close();
+                }
+                if (closed.get() && completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Connexion fermée par le client ou émetteur déjà terminé
+                disconnected();
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty() && !closed.get()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void closeAfterDrain() {
+            closeAfterDrain = true;
+            schedule();
+        }
+
+        /**
+         * Désinscrit l'abonné ; l'émetteur est terminé par la passe suivante
+         */
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.computeIfPresent(courseId, (id, courseSubscribers) -> {
+                courseSubscribers.remove(this);
+                return courseSubscribers.isEmpty() ? null : courseSubscribers;
+            });
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+
+        /**
+         * Connexion terminée côté serveur ou client : l'émetteur ne doit plus être utilisé
+         */
+        private void disconnected() {
+            completed.set(true);
+            close();
+        }
+    }
+}
@@ -2,23 +2,33 @@ package com.pmu.courses_manager.application.api;
 
 
 import com.pmu.courses_manager.application.api.dto.CourseDto;
+import com.pmu.courses_manager.application.api.dto.CoursePageDto;
 import com.pmu.courses_manager.application.api.dto.ParticipantDto;
 import com.pmu.courses_manager.application.api.request.CreateCourseRequest;
 import com.pmu.courses_manager.application.api.request.CreateParticipantRequest;
+import com.pmu.courses_manager.application.api.request.CreateParticipantsRequest;
 import com.pmu.courses_manager.application.api.request.UpdateCourseRequest;
 import com.pmu.courses_manager.application.mapper.ApplicationMapper;
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CoursePage;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.model.ParticipantId;
 import com.pmu.courses_manager.domain.port.in.CourseManagementUseCase;
 import com.pmu.courses_manager.domain.port.in.ParticipantManagementUseCase;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -29,16 +39,28 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/courses")
 public class CourseResources implements CourseResourcesApi {
 
+    /**
+     * Cloisons distinctes : un pic d'inscriptions lentes ne peut pas consommer les places des lectures.
+     * Une cloison pleine refuse immédiatement la requête (503 + Retry-After).
+     */
+    static final String READS = "courseReads";
+    static final String WRITES = "courseWrites";
+
     private final CourseManagementUseCase courseManagementUseCase;
     private final ParticipantManagementUseCase participantManagementUseCase;
     private final ApplicationMapper mapper;
+    private final CourseResponseCache responseCache;
+    private final CourseLiveFeed liveFeed;
 
     public CourseResources(
             CourseManagementUseCase courseManagementUseCase,
-            ParticipantManagementUseCase participantManagementUseCase, ApplicationMapper mapper) {
+            ParticipantManagementUseCase participantManagementUseCase, ApplicationMapper mapper,
+            CourseResponseCache responseCache, CourseLiveFeed liveFeed) {
         this.courseManagementUseCase = courseManagementUseCase;
         this.participantManagementUseCase = participantManagementUseCase;
         this.mapper = mapper;
+        this.responseCache = responseCache;
+        this.liveFeed = liveFeed;
     }
 
     /**
@@ -46,13 +68,14 @@ public class CourseResources implements CourseResourcesApi {
      */
     @Override
     @PostMapping
+    @Bulkhead(name = WRITES)
     public ResponseEntity<CourseDto> createCourse(@Valid @RequestBody CreateCourseRequest request) {
         CourseId courseId = courseManagementUseCase.createCourse(
                 request.nom(),
                 request.date(),
                 request.numero());
 
-        Course course = courseManagementUseCase.getCourseById(courseId);
+        CourseSummary course = courseManagementUseCase.getCourseSummaryById(courseId);
         return new ResponseEntity<>(mapper.mapToCourseDto(course), HttpStatus.CREATED);
     }
 
@@ -61,18 +84,26 @@ public class CourseResources implements CourseResourcesApi {
      */
     @Override
     @PutMapping("/{id}")
+    @Bulkhead(name = WRITES)
     public ResponseEntity<CourseDto> updateCourse(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateCourseRequest request) {
+            @Valid @RequestBody UpdateCourseRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
+        Long expectedVersion = ifMatch == null ? null : CourseETags.expectedVersion(ifMatch).orElse(null);
         courseManagementUseCase.updateCourse(
                 new CourseId(id),
                 request.nom(),
                 request.date(),
-                request.numero());
-
-        Course course = courseManagementUseCase.getCourseById(new CourseId(id));
-        return ResponseEntity.ok(mapper.mapToCourseDto(course));
+                request.numero(),
+                expectedVersion);
+
+        CourseSummary course = courseManagementUseCase.getCourseSummaryById(new CourseId(id));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (course.version() != null) {
+            response.eTag(CourseETags.of(course.version(), false));
+        }
+        return response.body(mapper.mapToCourseDto(course));
     }
 
     /**
@@ -80,6 +111,7 @@ public class CourseResources implements CourseResourcesApi {
      */
     @Override
     @DeleteMapping("/{id}")
+    @Bulkhead(name = WRITES)
     public ResponseEntity<Void> deleteCourse(@PathVariable Long id) {
         courseManagementUseCase.deleteCourse(new CourseId(id));
         return ResponseEntity.noContent().build();
@@ -90,9 +122,17 @@ public class CourseResources implements CourseResourcesApi {
      */
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<CourseDto> getCourseById(@PathVariable Long id) {
-        Course course = courseManagementUseCase.getCourseById(new CourseId(id));
-        return ResponseEntity.ok(mapper.mapToCourseDto(course));
+    @Bulkhead(name = READS)
+    public ResponseEntity<byte[]> getCourseById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CourseId courseId = new CourseId(id);
+        return notModified(courseId, ifNoneMatch).orElseGet(() ->
+                responseCache.get(courseId, CourseResponseCache.View.COURSE, acceptEncoding, () -> {
+                    CourseSummary course = courseManagementUseCase.getCourseSummaryById(courseId);
+                    return new CourseResponseCache.Body(course.version(), mapper.mapToCourseDto(course));
+                }));
     }
 
     /**
@@ -100,13 +140,13 @@ public class CourseResources implements CourseResourcesApi {
      */
     @Override
     @GetMapping
-    public ResponseEntity<List<CourseDto>> getAllCourses() {
-        List<Course> courses = courseManagementUseCase.getAllCourses();
-        List<CourseDto> courseDtos = courses.stream()
-                .map(mapper::mapToCourseDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(courseDtos);
+    @Bulkhead(name = READS)
+    public ResponseEntity<CoursePageDto> getCourses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CourseManagementUseCase.DEFAULT_PAGE_SIZE) int size) {
+        CourseCursor after = cursor == null || cursor.isBlank() ? null : CourseCursor.decode(cursor);
+        CoursePage page = courseManagementUseCase.getCourses(after, size);
+        return ResponseEntity.ok(mapper.mapToCoursePageDto(page));
     }
 
     /**
@@ -114,6 +154,7 @@ public class CourseResources implements CourseResourcesApi {
      */
     @Override
     @PostMapping("/{courseId}/participants")
+    @Bulkhead(name = WRITES)
     public ResponseEntity<ParticipantDto> addParticipant(
             @PathVariable Long courseId,
             @Valid @RequestBody CreateParticipantRequest request) {
@@ -130,14 +171,70 @@ public class CourseResources implements CourseResourcesApi {
      * {@inheritDoc}
      */
     @Override
-    @GetMapping("/{courseId}/participants")
-    public ResponseEntity<List<ParticipantDto>> getParticipantsByCourse(@PathVariable Long courseId) {
-        List<Participant> participants = participantManagementUseCase.getParticipantsByCourse(new CourseId(courseId));
-        List<ParticipantDto> participantDtos = participants.stream()
+    @PostMapping("/{courseId}/participants/bulk")
+    @Bulkhead(name = WRITES)
+    public ResponseEntity<List<ParticipantDto>> addParticipants(
+            @PathVariable Long courseId,
+            @Valid @RequestBody CreateParticipantsRequest request) {
+
+        List<String> noms = request.participants().stream()
+                .map(CreateParticipantRequest::nom)
+                .toList();
+        List<ParticipantDto> participantDtos = participantManagementUseCase.addParticipants(new CourseId(courseId), noms)
+                .stream()
                 .map(mapper::mapToParticipantDto)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(participantDtos);
+        return new ResponseEntity<>(participantDtos, HttpStatus.CREATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping("/{courseId}/participants")
+    @Bulkhead(name = READS)
+    public ResponseEntity<byte[]> getParticipantsByCourse(
+            @PathVariable Long courseId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CourseId id = new CourseId(courseId);
+        return notModified(id, ifNoneMatch).orElseGet(() ->
+                responseCache.get(id, CourseResponseCache.View.PARTICIPANTS, acceptEncoding, () -> {
+                    // Participants et version issus d'une même lecture : l'ETag correspond au corps
+                    Course course = courseManagementUseCase.getCourseById(id);
+                    List<ParticipantDto> participantDtos = course.getParticipants().stream()
+                            .map(mapper::mapToParticipantDto)
+                            .collect(Collectors.toList());
+                    return new CourseResponseCache.Body(course.getVersion(), participantDtos);
+                }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GetMapping(path = "/{courseId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Bulkhead(name = READS)
+    public SseEmitter streamCourseEvents(@PathVariable Long courseId) {
+        CourseId id = new CourseId(courseId);
+        // Lu après l'inscription et hors cache : l'état initial couvre tout ce que le flux ne transmettra pas
+        return liveFeed.subscribe(id, () -> courseManagementUseCase.getLatestCourseById(id).getParticipants());
+    }
+
+    /**
+     * Répond 304 sur la seule lecture de la version quand le client détient déjà la version courante
+     */
+    private Optional<ResponseEntity<byte[]>> notModified(CourseId courseId, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        long version = courseManagementUseCase.getCourseVersion(courseId);
+        return CourseETags.matching(ifNoneMatch, version)
+                .map(tag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(tag)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build());
     }
 
 }
\ No newline at end of file
@@ -2,22 +2,29 @@ package com.pmu.courses_manager.application.api;
 
 
 import com.pmu.courses_manager.application.api.dto.CourseDto;
+import com.pmu.courses_manager.application.api.dto.CoursePageDto;
 import com.pmu.courses_manager.application.api.dto.ParticipantDto;
 import com.pmu.courses_manager.application.api.request.CreateCourseRequest;
 import com.pmu.courses_manager.application.api.request.CreateParticipantRequest;
+import com.pmu.courses_manager.application.api.request.CreateParticipantsRequest;
 import com.pmu.courses_manager.application.api.request.UpdateCourseRequest;
 import com.pmu.courses_manager.application.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -82,11 +89,18 @@ public interface CourseResourcesApi {
                     responseCode = "409",
                     description = "Une course avec cette date et ce numéro existe déjà",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "La course a changé depuis la version indiquée par If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     ResponseEntity<CourseDto> updateCourse(
             @Parameter(description = "ID de la course à mettre à jour") @PathVariable Long id,
-            @Valid @RequestBody UpdateCourseRequest request);
+            @Valid @RequestBody UpdateCourseRequest request,
+            @Parameter(description = "ETag de la version sur laquelle porte la modification")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
     /**
      * Supprime une course
@@ -122,30 +136,46 @@ public interface CourseResourcesApi {
                     description = "Course récupérée avec succès",
                     content = @Content(schema = @Schema(implementation = CourseDto.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "La course n'a pas changé depuis l'ETag indiqué par If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Course non trouvée",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    ResponseEntity<CourseDto> getCourseById(
-            @Parameter(description = "ID de la course à récupérer") @PathVariable Long id);
+    ResponseEntity<byte[]> getCourseById(
+            @Parameter(description = "ID de la course à récupérer") @PathVariable Long id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(description = "ETag déjà connu du client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
     /**
-     * Liste toutes les courses
+     * Liste les courses page par page
      */
     @Operation(
-            summary = "Liste toutes les courses",
-            description = "Récupère la liste de toutes les courses disponibles."
+            summary = "Liste les courses par page",
+            description = "Récupère une page de courses triées par date, numéro puis identifiant. " +
+                    "Le champ 'next' de la réponse est le curseur à transmettre pour obtenir la page suivante ; " +
+                    "il est absent sur la dernière page."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Liste des courses récupérée avec succès",
-                    content = @Content(schema = @Schema(implementation = CourseDto.class))
+                    description = "Page de courses récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = CoursePageDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Curseur de pagination invalide",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    ResponseEntity<List<CourseDto>> getAllCourses();
+    ResponseEntity<CoursePageDto> getCourses(
+            @Parameter(description = "Curseur renvoyé par la page précédente") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de courses par page (borné à 200)") @RequestParam int size);
 
     /**
      * Ajoute un participant à une course
@@ -181,6 +211,35 @@ public interface CourseResourcesApi {
             @Parameter(description = "ID de la course") @PathVariable Long courseId,
             @Valid @RequestBody CreateParticipantRequest request);
 
+    /**
+     * Inscrit plusieurs participants à une course
+     */
+    @Operation(
+            summary = "Inscrit plusieurs participants à une course",
+            description = "Inscrit jusqu'à 1000 participants en une seule transaction. " +
+                    "Les dossards sont attribués de façon contiguë dans l'ordre de la requête."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Participants inscrits avec succès",
+                    content = @Content(schema = @Schema(implementation = ParticipantDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Données de requête invalides",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Course non trouvée",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<List<ParticipantDto>> addParticipants(
+            @Parameter(description = "ID de la course") @PathVariable Long courseId,
+            @Valid @RequestBody CreateParticipantsRequest request);
+
     /**
      * Liste les participants d'une course
      */
@@ -192,7 +251,38 @@ public interface CourseResourcesApi {
             @ApiResponse(
                     responseCode = "200",
                     description = "Liste des participants récupérée avec succès",
-                    content = @Content(schema = @Schema(implementation = ParticipantDto.class))
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipantDto.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Les participants n'ont pas changé depuis l'ETag indiqué par If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Course non trouvée",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<byte[]> getParticipantsByCourse(
+            @Parameter(description = "ID de la course") @PathVariable Long courseId,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(description = "ETag déjà connu du client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    /**
+     * Suit en direct les changements d'une course
+     */
+    @Operation(
+            summary = "Suit en direct les changements d'une course",
+            description = "Flux Server-Sent Events : l'événement 'participants' transmet d'abord la liste des participants, " +
+                    "puis 'participant-added' et 'course-updated' sont poussés à chaque changement ; 'course-deleted' clôt le flux. " +
+                    "Un client trop lent pour suivre le flux est déconnecté et doit se réabonner."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Flux d'événements ouvert",
+                    content = @Content(mediaType = "text/event-stream")
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -200,6 +290,5 @@ public interface CourseResourcesApi {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    ResponseEntity<List<ParticipantDto>> getParticipantsByCourse(
-            @Parameter(description = "ID de la course") @PathVariable Long courseId);
-}
\ No newline at end of file
+    SseEmitter streamCourseEvents(@Parameter(description = "ID de la course") @PathVariable Long courseId);
+}
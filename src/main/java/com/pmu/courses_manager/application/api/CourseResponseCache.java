@@ -0,0 +1,206 @@
+package com.pmu.courses_manager.application.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pmu.courses_manager.domain.model.CourseId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache des réponses déjà sérialisées des lectures de course : le JSON encodé est conservé
+ * (ainsi que sa variante gzip, calculée à la première demande) et écrit tel quel dans la réponse.
+ * <p>
+ * Les entrées sont indexées par course et par version, relevée avant la construction de la réponse.
+ * Toute éviction du cache des courses ({@link CourseEvictedEvent}) incrémente la version :
+ * une réponse construite à partir de données antérieures à une écriture devient inaccessible.
+ * Le JSON est produit par l'{@link ObjectMapper} de Spring MVC : les octets sont identiques
+ * à ceux d'une réponse non mise en cache. L'ETag est celui de la version de la course lue
+ * avec le corps, jamais d'une lecture séparée.
+ */
+@Component
+public class CourseResponseCache {
+
+    public static final String RESPONSES = "course-responses";
+
+    /**
+     * Représentations d'une course mises en cache
+     */
+    public enum View {
+        COURSE,
+        PARTICIPANTS
+    }
+
+    /**
+     * Corps à encoder et version de la course dont il est issu (absente si inconnue)
+     */
+    public record Body(Long version, Object content) {
+    }
+
+    private static final String GZIP = "gzip";
+    private static final int VERSION_STRIPES = 1024;
+
+    private final Cache<Key, EncodedResponse> responses;
+    // Versions réparties sur des bandes : jamais évincées, contrairement à une table par course
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+
+    public CourseResponseCache(ObjectMapper objectMapper,
+                               @Value("${course-cache.responses.maximum-size:10000}") long maximumSize,
+                               @Value("${course-cache.ttl:10m}") Duration ttl,
+                               @Value("${course-cache.responses.gzip-min-size:1024}") int gzipMinSize,
+                               MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, RESPONSES);
+    }
+
+    /**
+     * Renvoie la réponse mise en cache, ou la construit à partir de {@code body}, l'encode et la conserve.
+     * La variante gzip est servie quand le client l'accepte et que le corps dépasse le seuil configuré.
+     */
+    public ResponseEntity<byte[]> get(CourseId courseId, View view, String acceptEncoding, Supplier<Body> body) {
+        Key key = new Key(courseId.getValue(), view, versions.get(stripe(courseId.getValue())));
+        EncodedResponse response = responses.getIfPresent(key);
+        if (response == null) {
+            Body built = body.get();
+            response = new EncodedResponse(built.version(), encode(built.content()));
+            responses.put(key, response);
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = response.json.length >= gzipMinSize && acceptsGzip(acceptEncoding);
+        if (response.version != null) {
+            builder.eTag(CourseETags.of(response.version, gzip));
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(response.gzip());
+        }
+        return builder.body(response.json);
+    }
+
+    @EventListener
+    public void onCourseEvicted(CourseEvictedEvent event) {
+        if (event.isAll()) {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            responses.invalidateAll();
+            return;
+        }
+        Long courseId = event.courseId().getValue();
+        long previous = versions.getAndIncrement(stripe(courseId));
+        // Les versions antérieures sont inaccessibles : on libère simplement la place
+        for (View view : View.values()) {
+            responses.invalidate(new Key(courseId, view, previous));
+        }
+    }
+
+    private static int stripe(Long courseId) {
+        return Long.hashCode(courseId) & (VERSION_STRIPES - 1);
+    }
+
+    private byte[] encode(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lit l'en-tête {@code Accept-Encoding} : gzip est accepté si son poids, ou à défaut celui de {@code *},
+     * est strictement positif
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (GZIP.equalsIgnoreCase(name)) {
+                gzip = quality(parts);
+            } else if ("*".equals(name)) {
+                any = quality(parts);
+            }
+        }
+        Double quality = gzip != null ? gzip : any;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * Poids {@code q} d'un codage, 1 par défaut ; un poids illisible vaut refus
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && "q".equalsIgnoreCase(parameter[0].trim())) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private record Key(Long courseId, View view, long version) {
+    }
+
+    private static final class EncodedResponse {
+
+        private final Long version;
+        private final byte[] json;
+        private volatile byte[] gzip;
+
+        private EncodedResponse(Long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        /**
+         * Compressée à la première demande ; deux compressions concurrentes produisent le même résultat
+         */
+        private byte[] gzip() {
+            byte[] compressed = gzip;
+            if (compressed == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 32);
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                    gzipOut.write(json);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                compressed = out.toByteArray();
+                gzip = compressed;
+            }
+            return compressed;
+        }
+    }
+}
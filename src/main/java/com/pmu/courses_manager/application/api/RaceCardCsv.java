@@ -0,0 +1,148 @@
+package com.pmu.courses_manager.application.api;
+
+import com.pmu.courses_manager.application.exception.ImportInvalideException;
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lecture d'un programme au format CSV : une ligne par participant, précédée d'un en-tête
+ * nommant les colonnes {@code date}, {@code numero}, {@code nom} et, facultativement, {@code participant}.
+ * <p>
+ * Les lignes d'une même course (date, numéro) sont regroupées dans l'ordre du fichier, qui est
+ * l'ordre des dossards ; une ligne sans participant déclare une course sans inscrit.
+ * Le séparateur est le point-virgule s'il figure dans l'en-tête, la virgule sinon ;
+ * les champs peuvent être entre guillemets ({@code ""} pour un guillemet).
+ */
+final class RaceCardCsv {
+
+    private RaceCardCsv() {
+    }
+
+    static List<CourseImportItem> parse(String csv) {
+        String[] lines = csv.replace("\uFEFF", "").strip().split("\r?\n");
+        if (lines.length == 0 || lines[0].isBlank()) {
+            throw new ImportInvalideException("Le fichier CSV est vide");
+        }
+        char separator = lines[0].indexOf(';') >= 0 ? ';' : ',';
+        List<String> header = split(lines[0], separator, 1).stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList();
+        int date = column(header, "date");
+        int numero = column(header, "numero");
+        int nom = column(header, "nom");
+        int participant = header.indexOf("participant");
+
+        Map<Key, Draft> drafts = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            List<String> fields = split(lines[i], separator, lineNumber);
+            Key key = new Key(parseDate(field(fields, date), lineNumber), parseNumero(field(fields, numero), lineNumber));
+            String courseNom = field(fields, nom);
+            Draft draft = drafts.computeIfAbsent(key, k -> new Draft(courseNom));
+            if (!Objects.equals(draft.nom, courseNom)) {
+                throw new ImportInvalideException("Ligne " + lineNumber + " : la course " + key.numero()
+                        + " du " + key.date() + " porte déjà le nom '" + draft.nom + "'");
+            }
+            String participantNom = field(fields, participant);
+            if (participantNom != null) {
+                draft.participants.add(participantNom);
+            }
+        }
+        if (drafts.isEmpty()) {
+            throw new ImportInvalideException("Le fichier CSV ne contient aucune course");
+        }
+        return drafts.entrySet().stream()
+                .map(entry -> new CourseImportItem(entry.getValue().nom, entry.getKey().date(),
+                        entry.getKey().numero(), entry.getValue().participants))
+                .toList();
+    }
+
+    private static int column(List<String> header, String name) {
+        int index = header.indexOf(name);
+        if (index < 0) {
+            throw new ImportInvalideException("Colonne '" + name + "' absente de l'en-tête CSV");
+        }
+        return index;
+    }
+
+    /**
+     * Valeur du champ, ou null s'il est vide ou absent
+     */
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index).strip();
+    }
+
+    private static LocalDate parseDate(String value, int lineNumber) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ImportInvalideException("Ligne " + lineNumber + " : date invalide '" + value + "' (attendu AAAA-MM-JJ)");
+        }
+    }
+
+    private static Integer parseNumero(String value, int lineNumber) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ImportInvalideException("Ligne " + lineNumber + " : numéro invalide '" + value + "'");
+        }
+    }
+
+    private static List<String> split(String line, char separator, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ImportInvalideException("Ligne " + lineNumber + " : guillemet non fermé");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record Key(LocalDate date, Integer numero) {
+    }
+
+    private static final class Draft {
+
+        private final String nom;
+        private final List<String> participants = new ArrayList<>();
+
+        private Draft(String nom) {
+            this.nom = nom;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.pmu.courses_manager.application.api.dto;
+
+import java.time.LocalDateTime;
+
+public record ChangeDto(
+        long sequence,
+        String type,
+        Long courseId,
+        LocalDateTime occurredAt,
+        CourseDto course,
+        ChangedParticipantDto participant
+) {}
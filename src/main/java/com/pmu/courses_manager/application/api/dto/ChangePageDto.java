@@ -0,0 +1,10 @@
+package com.pmu.courses_manager.application.api.dto;
+
+import java.util.List;
+
+public record ChangePageDto(
+        List<ChangeDto> changes,
+        long next,
+        boolean hasMore,
+        boolean resync
+) {}
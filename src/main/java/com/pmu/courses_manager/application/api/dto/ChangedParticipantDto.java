@@ -0,0 +1,7 @@
+package com.pmu.courses_manager.application.api.dto;
+
+public record ChangedParticipantDto(
+        Long id,
+        String nom,
+        Integer dossard
+) {}
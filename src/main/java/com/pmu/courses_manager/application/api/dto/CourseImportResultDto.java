@@ -0,0 +1,14 @@
+package com.pmu.courses_manager.application.api.dto;
+
+import java.time.LocalDate;
+
+public record CourseImportResultDto(
+        int index,
+        LocalDate date,
+        Integer numero,
+        String status,
+        Long id,
+        int participants,
+        String code,
+        String message
+) {}
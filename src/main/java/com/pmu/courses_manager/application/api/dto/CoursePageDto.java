@@ -0,0 +1,8 @@
+package com.pmu.courses_manager.application.api.dto;
+
+import java.util.List;
+
+public record CoursePageDto(
+        List<CourseDto> courses,
+        String next
+) {}
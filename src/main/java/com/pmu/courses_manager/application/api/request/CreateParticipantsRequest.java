@@ -0,0 +1,12 @@
+package com.pmu.courses_manager.application.api.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateParticipantsRequest(
+        @NotEmpty(message = "La liste des participants est obligatoire")
+        @Size(max = 1000, message = "Au plus 1000 participants peuvent être inscrits en une fois")
+        List<@Valid CreateParticipantRequest> participants) {}
@@ -0,0 +1,20 @@
+package com.pmu.courses_manager.application.api.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Course d'un import de programme ; elle est validée par le service, qui la rejette individuellement
+ */
+public record ImportCourseRequest(
+        String nom,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+
+        Integer numero,
+
+        List<CreateParticipantRequest> participants
+) {}
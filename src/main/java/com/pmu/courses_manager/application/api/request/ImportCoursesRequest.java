@@ -0,0 +1,12 @@
+package com.pmu.courses_manager.application.api.request;
+
+import com.pmu.courses_manager.domain.port.in.CourseImportUseCase;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ImportCoursesRequest(
+        @NotEmpty(message = "La liste des courses est obligatoire")
+        @Size(max = CourseImportUseCase.MAX_COURSES, message = "Au plus " + CourseImportUseCase.MAX_COURSES + " courses peuvent être importées en une fois")
+        List<ImportCourseRequest> courses) {}
@@ -0,0 +1,7 @@
+package com.pmu.courses_manager.application.exception;
+
+public class CourseVersionMismatchException extends RuntimeException {
+    public CourseVersionMismatchException(String message) {
+        super(message);
+    }
+}
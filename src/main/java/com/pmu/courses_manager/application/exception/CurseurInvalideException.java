@@ -0,0 +1,7 @@
+package com.pmu.courses_manager.application.exception;
+
+public class CurseurInvalideException extends RuntimeException {
+    public CurseurInvalideException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
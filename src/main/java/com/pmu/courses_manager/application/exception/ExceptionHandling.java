@@ -1,6 +1,10 @@
 package com.pmu.courses_manager.application.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -37,4 +41,42 @@ public class ExceptionHandling {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ImportInvalideException.class)
+    public ResponseEntity<ErrorResponse> handleImportInvalideException(ImportInvalideException ex) {
+        ErrorResponse error = new ErrorResponse("INVALID_IMPORT", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(CurseurInvalideException.class)
+    public ResponseEntity<ErrorResponse> handleCurseurInvalideException(CurseurInvalideException ex) {
+        ErrorResponse error = new ErrorResponse("INVALID_CURSOR", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(CourseVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleCourseVersionMismatchException(CourseVersionMismatchException ex) {
+        ErrorResponse error = new ErrorResponse("COURSE_VERSION_MISMATCH", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse error = new ErrorResponse("COURSE_MODIFIED_CONCURRENTLY", "La course a été modifiée pendant la mise à jour");
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateKeyException(DuplicateKeyException ex) {
+        ErrorResponse error = new ErrorResponse("CONCURRENT_DUPLICATE", "Une écriture concurrente a créé la même course ou le même dossard, veuillez réessayer");
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFullException(BulkheadFullException ex) {
+        ErrorResponse error = new ErrorResponse("SERVICE_SATURATED", "Trop de requêtes simultanées, veuillez réessayer");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
 }
@@ -0,0 +1,7 @@
+package com.pmu.courses_manager.application.exception;
+
+public class ImportInvalideException extends RuntimeException {
+    public ImportInvalideException(String message) {
+        super(message);
+    }
+}
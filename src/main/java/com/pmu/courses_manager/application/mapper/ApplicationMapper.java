@@ -1,11 +1,25 @@
 package com.pmu.courses_manager.application.mapper;
 
+import com.pmu.courses_manager.application.api.dto.ChangeDto;
+import com.pmu.courses_manager.application.api.dto.ChangePageDto;
+import com.pmu.courses_manager.application.api.dto.ChangedParticipantDto;
 import com.pmu.courses_manager.application.api.dto.CourseDto;
+import com.pmu.courses_manager.application.api.dto.CourseImportResultDto;
+import com.pmu.courses_manager.application.api.dto.CoursePageDto;
 import com.pmu.courses_manager.application.api.dto.ParticipantDto;
+import com.pmu.courses_manager.application.api.request.ImportCourseRequest;
+import com.pmu.courses_manager.domain.model.ChangePage;
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseChange;
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+import com.pmu.courses_manager.domain.model.CourseImportResult;
+import com.pmu.courses_manager.domain.model.CoursePage;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 import com.pmu.courses_manager.domain.model.Participant;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ApplicationMapper {
     public ApplicationMapper(){}
@@ -23,4 +37,59 @@ public class ApplicationMapper {
                 course.getNumero()
         );
     }
+    public CourseDto mapToCourseDto(CourseSummary course) {
+        return new CourseDto(
+                course.id().getValue(),
+                course.nom(),
+                course.date(),
+                course.numero()
+        );
+    }
+    public CoursePageDto mapToCoursePageDto(CoursePage page) {
+        List<CourseDto> courses = page.courses().stream()
+                .map(this::mapToCourseDto)
+                .toList();
+        return new CoursePageDto(courses, page.hasNext() ? page.next().encode() : null);
+    }
+    public ChangeDto mapToChangeDto(CourseChange change) {
+        return new ChangeDto(
+                change.sequence(),
+                change.type(),
+                change.courseId().getValue(),
+                change.occurredAt(),
+                change.course() == null ? null : mapToCourseDto(change.course()),
+                change.participant() == null ? null : mapToChangedParticipantDto(change.participant())
+        );
+    }
+    public ChangedParticipantDto mapToChangedParticipantDto(Participant participant) {
+        return new ChangedParticipantDto(
+                participant.getId().getValue(),
+                participant.getNom(),
+                participant.getDossard()
+        );
+    }
+    public ChangePageDto mapToChangePageDto(ChangePage page) {
+        List<ChangeDto> changes = page.changes().stream()
+                .map(this::mapToChangeDto)
+                .toList();
+        return new ChangePageDto(changes, page.next(), page.hasMore(), page.resync());
+    }
+    public CourseImportItem mapToCourseImportItem(ImportCourseRequest request) {
+        List<String> participants = request.participants() == null ? List.of() : request.participants().stream()
+                .map(participant -> participant == null ? null : participant.nom())
+                .toList();
+        return new CourseImportItem(request.nom(), request.date(), request.numero(), participants);
+    }
+    public CourseImportResultDto mapToCourseImportResultDto(CourseImportResult result) {
+        return new CourseImportResultDto(
+                result.index(),
+                result.date(),
+                result.numero(),
+                result.status().name(),
+                result.courseId() == null ? null : result.courseId().getValue(),
+                result.participants(),
+                result.code(),
+                result.message()
+        );
+    }
 }
\ No newline at end of file
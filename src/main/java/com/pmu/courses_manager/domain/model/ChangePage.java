@@ -0,0 +1,12 @@
+package com.pmu.courses_manager.domain.model;
+
+import java.util.List;
+
+/**
+ * Page du flux de changements.
+ * {@code next} est le curseur à transmettre pour la page suivante (inchangé si la page est vide).
+ * {@code resync} signale que des changements postérieurs au curseur ont été purgés :
+ * le client doit recharger l'intégralité des courses avant de reprendre le flux.
+ */
+public record ChangePage(List<CourseChange> changes, long next, boolean hasMore, boolean resync) {
+}
@@ -3,6 +3,7 @@ package com.pmu.courses_manager.domain.model;
 import com.pmu.courses_manager.application.exception.DossardDejaUtiliseException;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -17,6 +18,7 @@ public class Course {
     private String nom;
     private LocalDate date;
     private Integer numero;
+    private Long version;
     private final Set<Participant> participants = new HashSet<>();
 
     public Course() {
@@ -62,6 +64,17 @@ public class Course {
         course.numero = numero;
         return course;
     }
+
+    /**
+     * Reconstitue une course avec sa version et ses participants existants, identifiants compris
+     */
+    public static Course reconstitute(CourseId id, String nom, LocalDate date, Integer numero, Long version,
+                                      Collection<Participant> participants) {
+        Course course = reconstitute(id, nom, date, numero);
+        course.version = version;
+        course.participants.addAll(participants);
+        return course;
+    }
     public void updateDetails(String nom, LocalDate date, Integer numero) {
         if (nom != null && !nom.trim().isEmpty()) {
             this.nom = nom;
@@ -108,6 +121,13 @@ public class Course {
         return numero;
     }
 
+    /**
+     * Version de la course en base, absente tant qu'elle n'a pas été enregistrée
+     */
+    public Long getVersion() {
+        return version;
+    }
+
     public Set<Participant> getParticipants() {
         return Collections.unmodifiableSet(participants);
     }
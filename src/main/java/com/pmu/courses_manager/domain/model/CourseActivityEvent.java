@@ -0,0 +1,27 @@
+package com.pmu.courses_manager.domain.model;
+
+/**
+ * Événement applicatif signalant un changement sur une course, publié par chaque instance
+ * à la réception des événements Kafka pour notifier les abonnés en direct.
+ * {@code course} n'est renseigné que pour une modification, {@code participant} que pour une inscription.
+ */
+public record CourseActivityEvent(CourseId courseId, Type type, CourseSummary course, Participant participant) {
+
+    public enum Type {
+        COURSE_UPDATED,
+        COURSE_DELETED,
+        PARTICIPANT_ADDED
+    }
+
+    public static CourseActivityEvent courseUpdated(CourseSummary course) {
+        return new CourseActivityEvent(course.id(), Type.COURSE_UPDATED, course, null);
+    }
+
+    public static CourseActivityEvent courseDeleted(CourseId courseId) {
+        return new CourseActivityEvent(courseId, Type.COURSE_DELETED, null, null);
+    }
+
+    public static CourseActivityEvent participantAdded(CourseId courseId, Participant participant) {
+        return new CourseActivityEvent(courseId, Type.PARTICIPANT_ADDED, null, participant);
+    }
+}
@@ -0,0 +1,14 @@
+package com.pmu.courses_manager.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changement enregistré sur une course ou ses participants.
+ * {@code sequence} croît avec l'ordre de visibilité et sert de curseur au flux de changements ;
+ * {@code type} est le nom de l'événement ({@code course-created}, {@code participant-added}, ...).
+ * {@code course} porte les détails d'une course créée ou modifiée, {@code participant} le participant inscrit ;
+ * les deux sont absents pour une suppression.
+ */
+public record CourseChange(long sequence, String type, CourseId courseId, LocalDateTime occurredAt,
+                           Course course, Participant participant) {
+}
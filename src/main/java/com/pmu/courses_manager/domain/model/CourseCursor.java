@@ -0,0 +1,53 @@
+package com.pmu.courses_manager.domain.model;
+
+import com.pmu.courses_manager.application.exception.CurseurInvalideException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Value Object représentant la position d'une course dans le listing paginé.
+ * Le tri est stable sur (date, numéro, id) : le curseur désigne la dernière course lue.
+ */
+public record CourseCursor(LocalDate date, Integer numero, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public CourseCursor {
+        if (date == null || numero == null || id == null) {
+            throw new IllegalArgumentException("Le curseur de pagination est incomplet");
+        }
+    }
+
+    public static CourseCursor after(CourseSummary course) {
+        return new CourseCursor(course.date(), course.numero(), course.id().getValue());
+    }
+
+    /**
+     * Encode le curseur sous forme de jeton opaque pour les clients
+     */
+    public String encode() {
+        String raw = date + SEPARATOR + numero + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un jeton produit par {@link #encode()}
+     *
+     * @throws CurseurInvalideException si le jeton n'a pas été produit par {@link #encode()}
+     */
+    public static CourseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Curseur de pagination invalide : " + token);
+            }
+            return new CourseCursor(LocalDate.parse(parts[0]), Integer.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new CurseurInvalideException("Curseur de pagination invalide : " + token, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.pmu.courses_manager.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Course à créer lors d'un import de programme, avec les noms de ses participants
+ * dans l'ordre d'attribution des dossards (1, 2, ...)
+ */
+public record CourseImportItem(String nom, LocalDate date, Integer numero, List<String> participants) {
+
+    public CourseImportItem {
+        participants = participants == null ? List.of() : participants;
+    }
+}
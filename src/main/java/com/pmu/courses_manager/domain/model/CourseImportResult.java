@@ -0,0 +1,34 @@
+package com.pmu.courses_manager.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Résultat de l'import d'une course, repérée par sa position {@code index} dans l'import.
+ * Une course créée porte son identifiant et son nombre de participants ;
+ * une course rejetée porte le code et le motif du rejet.
+ */
+public record CourseImportResult(int index, LocalDate date, Integer numero, Status status,
+                                 CourseId courseId, int participants, String code, String message) {
+
+    /**
+     * Codes de rejet
+     */
+    public static final String INVALID_COURSE = "INVALID_COURSE";
+    public static final String COURSE_DUPLICATED = "COURSE_DUPLICATED";
+    public static final String DUPLICATED_IN_IMPORT = "DUPLICATED_IN_IMPORT";
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    public static CourseImportResult created(int index, Course course) {
+        return new CourseImportResult(index, course.getDate(), course.getNumero(), Status.CREATED,
+                course.getId(), course.getParticipants().size(), null, null);
+    }
+
+    public static CourseImportResult rejected(int index, CourseImportItem item, String code, String message) {
+        return new CourseImportResult(index, item.date(), item.numero(), Status.REJECTED,
+                null, 0, code, message);
+    }
+}
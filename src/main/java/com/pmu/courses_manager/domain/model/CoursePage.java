@@ -0,0 +1,14 @@
+package com.pmu.courses_manager.domain.model;
+
+import java.util.List;
+
+/**
+ * Page de courses triées par (date, numéro, id).
+ * {@code next} est absent lorsque la dernière page a été atteinte.
+ */
+public record CoursePage(List<CourseSummary> courses, CourseCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pmu.courses_manager.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Vue en lecture seule d'une course, sans ses participants.
+ * {@code version}, lue en base ou portée par les événements projetés, sert d'ETag ;
+ * elle n'est absente que des vues construites sans elle.
+ */
+public record CourseSummary(CourseId id, String nom, LocalDate date, Integer numero, Long version) {
+
+    public CourseSummary(CourseId id, String nom, LocalDate date, Integer numero) {
+        this(id, nom, date, numero, null);
+    }
+}
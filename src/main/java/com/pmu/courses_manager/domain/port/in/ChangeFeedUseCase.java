@@ -0,0 +1,18 @@
+package com.pmu.courses_manager.domain.port.in;
+
+import com.pmu.courses_manager.domain.model.ChangePage;
+
+/**
+ * Port d'entrée pour la synchronisation incrémentale des clients
+ */
+public interface ChangeFeedUseCase {
+
+    int DEFAULT_PAGE_SIZE = 100;
+    int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Changements postérieurs au curseur {@code since} (0 pour partir du début), page par page.
+     * La taille de page est bornée à {@link #MAX_PAGE_SIZE}.
+     */
+    ChangePage getChanges(long since, int limit);
+}
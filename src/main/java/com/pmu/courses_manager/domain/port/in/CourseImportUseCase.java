@@ -0,0 +1,23 @@
+package com.pmu.courses_manager.domain.port.in;
+
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+import com.pmu.courses_manager.domain.model.CourseImportResult;
+
+import java.util.List;
+
+/**
+ * Port d'entrée pour l'import d'un programme complet (courses et participants)
+ */
+public interface CourseImportUseCase {
+
+    int MAX_COURSES = 500;
+    int MAX_PARTICIPANTS = 1000;
+
+    /**
+     * Crée toutes les courses valides de l'import, avec leurs participants, par lots validés séparément.
+     * Les courses invalides ou déjà existantes sont rejetées individuellement, sans bloquer les autres.
+     * Renvoie un résultat par course, dans l'ordre de l'import.
+     * Un import vide ou de plus de {@link #MAX_COURSES} courses est refusé en bloc.
+     */
+    List<CourseImportResult> importCourses(List<CourseImportItem> items);
+}
@@ -1,25 +1,31 @@
 package com.pmu.courses_manager.domain.port.in;
 
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CoursePage;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Port d'entrée pour la gestion des courses
  */
 public interface CourseManagementUseCase {
 
+    int DEFAULT_PAGE_SIZE = 50;
+    int MAX_PAGE_SIZE = 200;
+
     /**
      * Crée une nouvelle course
      */
     CourseId createCourse(String nom, LocalDate date, Integer numero);
 
     /**
-     * Met à jour une course existante
+     * Met à jour une course existante.
+     * Si {@code expectedVersion} est renseignée, la mise à jour n'a lieu que si la course est toujours à cette version.
      */
-    void updateCourse(CourseId courseId, String nom, LocalDate date, Integer numero);
+    void updateCourse(CourseId courseId, String nom, LocalDate date, Integer numero, Long expectedVersion);
 
     /**
      * Supprime une course
@@ -32,7 +38,24 @@ public interface CourseManagementUseCase {
     Course getCourseById(CourseId courseId);
 
     /**
-     * Liste toutes les courses
+     * Récupère une course par son identifiant sans passer par le cache,
+     * pour un état initial qui ne doit manquer aucune écriture validée
+     */
+    Course getLatestCourseById(CourseId courseId);
+
+    /**
+     * Récupère le résumé d'une course (sans ses participants)
+     */
+    CourseSummary getCourseSummaryById(CourseId courseId);
+
+    /**
+     * Récupère la version courante d'une course, sans la charger
+     */
+    long getCourseVersion(CourseId courseId);
+
+    /**
+     * Liste une page de courses située après le curseur donné.
+     * La taille de page est bornée à {@link #MAX_PAGE_SIZE}.
      */
-    List<Course> getAllCourses();
+    CoursePage getCourses(CourseCursor after, int size);
 }
\ No newline at end of file
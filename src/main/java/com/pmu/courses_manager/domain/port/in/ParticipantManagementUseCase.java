@@ -15,6 +15,12 @@ public interface ParticipantManagementUseCase {
      */
     ParticipantId addParticipant(CourseId courseId, String nom);
 
+    /**
+     * Inscrit plusieurs participants à une course en une seule transaction.
+     * Les dossards sont attribués de façon contiguë, dans l'ordre des noms fournis.
+     */
+    List<Participant> addParticipants(CourseId courseId, List<String> noms);
+
     /**
      * Récupère un participant par son identifiant
      */
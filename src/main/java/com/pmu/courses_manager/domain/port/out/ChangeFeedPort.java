@@ -0,0 +1,23 @@
+package com.pmu.courses_manager.domain.port.out;
+
+import com.pmu.courses_manager.domain.model.CourseChange;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Port de sortie vers l'historique des changements de course
+ */
+public interface ChangeFeedPort {
+
+    /**
+     * Au plus {@code limit} changements postérieurs à {@code sequence}, par numéro d'ordre croissant.
+     * Seuls les changements dont l'enregistrement est assurément visible sont renvoyés.
+     */
+    List<CourseChange> findAfter(long sequence, int limit);
+
+    /**
+     * Plus petit numéro d'ordre encore conservé, vide si l'historique est vide
+     */
+    OptionalLong findOldestSequence();
+}
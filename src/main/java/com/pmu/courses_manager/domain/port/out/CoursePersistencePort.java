@@ -1,9 +1,12 @@
 package com.pmu.courses_manager.domain.port.out;
 
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,12 @@ public interface CoursePersistencePort {
      */
     Course save(Course course);
 
+    /**
+     * Crée de nouvelles courses et leurs participants par lots ; renvoie les courses enregistrées,
+     * identifiants compris, dans l'ordre donné
+     */
+    List<Course> saveAll(List<Course> courses);
+
     /**
      * Supprime une course
      */
@@ -27,13 +36,41 @@ public interface CoursePersistencePort {
      */
     Optional<Course> findById(CourseId courseId);
 
+    /**
+     * Charge une course par son identifiant directement depuis la base, sans passer par un cache :
+     * le résultat reflète toutes les écritures validées avant l'appel
+     */
+    Optional<Course> findLatestById(CourseId courseId);
+
+    /**
+     * Vérifie l'existence d'une course sans la charger
+     */
+    boolean existsById(CourseId courseId);
+
+    /**
+     * Charge le résumé d'une course, sans ses participants
+     */
+    Optional<CourseSummary> findSummaryById(CourseId courseId);
+
+    /**
+     * Lit la version courante d'une course, par une simple recherche sur clé primaire
+     */
+    Optional<Long> findVersionById(CourseId courseId);
+
     /**
      * Vérifie si une course existe avec la date et le numéro donnés
      */
     boolean existsByDateAndNumero(LocalDate date, Integer numero);
 
     /**
-     * Liste toutes les courses
+     * Liste, en une seule requête, les courses dont la date et le numéro figurent parmi ceux donnés.
+     * Le résultat peut contenir des combinaisons (date, numéro) non demandées : l'appelant les filtre.
+     */
+    List<CourseSummary> findByDatesAndNumeros(Collection<LocalDate> dates, Collection<Integer> numeros);
+
+    /**
+     * Liste au plus {@code limit} courses triées par (date, numéro, id),
+     * situées après le curseur donné (ou depuis le début si le curseur est null)
      */
-    List<Course> findAll();
+    List<CourseSummary> findPage(CourseCursor after, int limit);
 }
@@ -0,0 +1,26 @@
+package com.pmu.courses_manager.domain.port.out;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+
+import java.util.Optional;
+
+/**
+ * Port de sortie vers la projection de lecture des courses, alimentée par les événements publiés.
+ * La projection est éventuellement cohérente : une absence ne signifie pas que la course
+ * n'existe pas, l'appelant doit alors se rabattre sur la persistance.
+ */
+public interface CourseReadModelPort {
+
+    /**
+     * Résumé projeté d'une course, s'il est connu ; il porte toujours sa version
+     */
+    Optional<CourseSummary> findSummaryById(CourseId courseId);
+
+    /**
+     * Signale qu'une course a atteint {@code version} : aucun résumé plus ancien n'est plus servi,
+     * les lectures repassent par la persistance jusqu'à ce que la projection l'ait rattrapée.
+     * Une version absente (course supprimée) oublie la projection de la course.
+     */
+    void invalidate(CourseId courseId, Long version);
+}
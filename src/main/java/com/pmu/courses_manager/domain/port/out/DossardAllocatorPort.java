@@ -0,0 +1,15 @@
+package com.pmu.courses_manager.domain.port.out;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+
+/**
+ * Port de sortie pour l'attribution des dossards
+ */
+public interface DossardAllocatorPort {
+
+    /**
+     * Réserve {@code count} dossards consécutifs dans la course et renvoie le premier.
+     * La réservation est atomique : deux inscriptions concurrentes ne reçoivent jamais le même dossard.
+     */
+    int allocate(CourseId courseId, int count);
+}
@@ -5,7 +5,22 @@ import com.pmu.courses_manager.domain.model.CourseId;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
 
+import java.util.List;
+
 public interface OutboxEventPersistencePort {
     OutboxEvent saveAddedParticipantEvent(CourseId courseId, Participant participant);
+    List<OutboxEvent> saveAddedParticipantEvents(CourseId courseId, List<Participant> participants);
     OutboxEvent saveCreatedCourseEvent(Course course);
+
+    /**
+     * Enregistre en un seul lot la création de chaque course puis l'inscription de ses participants
+     */
+    List<OutboxEvent> saveCreatedCourseEvents(List<Course> courses);
+    OutboxEvent saveUpdatedCourseEvent(Course course);
+    OutboxEvent saveDeletedCourseEvent(CourseId courseId);
+
+    /**
+     * Enregistre l'invalidation d'une course, diffusée à toutes les instances pour évincer leurs caches
+     */
+    OutboxEvent saveCourseInvalidatedEvent(CourseId courseId);
 }
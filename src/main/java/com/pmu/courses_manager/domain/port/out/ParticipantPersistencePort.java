@@ -4,6 +4,7 @@ import com.pmu.courses_manager.domain.model.CourseId;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.model.ParticipantId;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,6 +17,11 @@ public interface ParticipantPersistencePort {
      */
     Participant save(CourseId courseId, Participant participant);
 
+    /**
+     * Enregistre plusieurs participants d'une même course en un seul aller-retour par lot
+     */
+    List<Participant> saveAll(CourseId courseId, List<Participant> participants);
+
     /**
      * Charge un Participant par son identifiant
      */
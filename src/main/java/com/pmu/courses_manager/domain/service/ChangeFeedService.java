@@ -0,0 +1,49 @@
+package com.pmu.courses_manager.domain.service;
+
+import com.pmu.courses_manager.domain.model.ChangePage;
+import com.pmu.courses_manager.domain.model.CourseChange;
+import com.pmu.courses_manager.domain.port.in.ChangeFeedUseCase;
+import com.pmu.courses_manager.domain.port.out.ChangeFeedPort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Service d'application du flux de changements : un client synchronisé ne télécharge
+ * que ce qui a changé depuis son dernier curseur.
+ */
+@Service
+public class ChangeFeedService implements ChangeFeedUseCase {
+
+    private final ChangeFeedPort changeFeedPort;
+
+    public ChangeFeedService(ChangeFeedPort changeFeedPort) {
+        this.changeFeedPort = changeFeedPort;
+    }
+
+    /**
+     * Une resynchronisation est demandée dès que l'historique ne remonte plus jusqu'au curseur.
+     * Le contrôle est conservateur : en cas de doute, il provoque une resynchronisation,
+     * jamais une perte silencieuse.
+     */
+    @Override
+    public ChangePage getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Curseur de changements invalide : " + since);
+        }
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        OptionalLong oldest = changeFeedPort.findOldestSequence();
+        boolean purged = oldest.isEmpty() ? since > 0 : since < oldest.getAsLong() - 1;
+        if (purged) {
+            return new ChangePage(List.of(), since, false, true);
+        }
+
+        // Un changement de plus que demandé permet de savoir s'il existe une page suivante
+        List<CourseChange> changes = changeFeedPort.findAfter(since, pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        List<CourseChange> page = hasMore ? List.copyOf(changes.subList(0, pageSize)) : changes;
+        long next = page.isEmpty() ? since : page.get(page.size() - 1).sequence();
+        return new ChangePage(page, next, hasMore, false);
+    }
+}
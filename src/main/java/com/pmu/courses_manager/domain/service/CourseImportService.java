@@ -0,0 +1,160 @@
+package com.pmu.courses_manager.domain.service;
+
+import com.pmu.courses_manager.application.exception.ImportInvalideException;
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+import com.pmu.courses_manager.domain.model.CourseImportResult;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.port.in.CourseImportUseCase;
+import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service d'application pour l'import d'un programme complet : toutes les courses d'une journée
+ * et leurs participants sont créées par lots, au lieu d'une requête par course et par inscription.
+ * <p>
+ * L'unicité (date, numéro) est vérifiée par une seule requête pour tout l'import ; courses, participants
+ * et événements outbox sont ensuite insérés par lots d'environ {@link #CHUNK_ROWS} lignes, chacun dans
+ * sa propre transaction : un gros programme ne retient ni verrous ni journal sur toute sa durée.
+ * Une course créée par ailleurs entre la vérification et l'insertion fait échouer son lot sur la
+ * contrainte d'unicité ; les lots précédents restent validés et rejouer l'import les signale
+ * comme déjà existants.
+ */
+@Service
+public class CourseImportService implements CourseImportUseCase {
+
+    /**
+     * Lignes (courses et participants) insérées au plus par transaction ; une course n'est jamais scindée
+     */
+    static final int CHUNK_ROWS = 5000;
+
+    private final CoursePersistencePort coursePersistencePort;
+    private final OutboxEventPersistencePort outboxEventPersistencePort;
+    private final TransactionTemplate transactionTemplate;
+
+    public CourseImportService(CoursePersistencePort coursePersistencePort,
+                               OutboxEventPersistencePort outboxEventPersistencePort,
+                               TransactionTemplate transactionTemplate) {
+        this.coursePersistencePort = coursePersistencePort;
+        this.outboxEventPersistencePort = outboxEventPersistencePort;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public List<CourseImportResult> importCourses(List<CourseImportItem> items) {
+        if (items.isEmpty()) {
+            throw new ImportInvalideException("L'import ne contient aucune course");
+        }
+        if (items.size() > MAX_COURSES) {
+            throw new ImportInvalideException("Au plus " + MAX_COURSES + " courses peuvent être importées en une fois");
+        }
+
+        CourseImportResult[] results = new CourseImportResult[items.size()];
+        Map<Integer, Course> candidates = new LinkedHashMap<>();
+        Set<Slot> slots = new HashSet<>();
+        for (int index = 0; index < items.size(); index++) {
+            CourseImportItem item = items.get(index);
+            Course course;
+            try {
+                course = toCourse(item);
+            } catch (IllegalArgumentException e) {
+                results[index] = CourseImportResult.rejected(index, item, CourseImportResult.INVALID_COURSE, e.getMessage());
+                continue;
+            }
+            if (!slots.add(new Slot(course.getDate(), course.getNumero()))) {
+                results[index] = CourseImportResult.rejected(index, item, CourseImportResult.DUPLICATED_IN_IMPORT,
+                        "La course " + course.getNumero() + " du " + course.getDate() + " figure plusieurs fois dans l'import");
+                continue;
+            }
+            candidates.put(index, course);
+        }
+
+        if (!candidates.isEmpty()) {
+            rejectExisting(items, candidates, results);
+        }
+        List<Integer> indexes = new ArrayList<>();
+        List<Course> chunk = new ArrayList<>();
+        int rows = 0;
+        for (Map.Entry<Integer, Course> candidate : candidates.entrySet()) {
+            indexes.add(candidate.getKey());
+            chunk.add(candidate.getValue());
+            rows += 1 + candidate.getValue().getParticipants().size();
+            if (rows >= CHUNK_ROWS) {
+                saveChunk(indexes, chunk, results);
+                indexes = new ArrayList<>();
+                chunk = new ArrayList<>();
+                rows = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(indexes, chunk, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Courses et événements outbox d'un lot sont validés ensemble
+     */
+    private void saveChunk(List<Integer> indexes, List<Course> chunk, CourseImportResult[] results) {
+        List<Course> saved = transactionTemplate.execute(status -> {
+            List<Course> courses = coursePersistencePort.saveAll(chunk);
+            outboxEventPersistencePort.saveCreatedCourseEvents(courses);
+            return courses;
+        });
+        for (int i = 0; i < saved.size(); i++) {
+            results[indexes.get(i)] = CourseImportResult.created(indexes.get(i), saved.get(i));
+        }
+    }
+
+    /**
+     * Une requête pour tout l'import : elle peut renvoyer des combinaisons non importées, filtrées ici
+     */
+    private void rejectExisting(List<CourseImportItem> items, Map<Integer, Course> candidates, CourseImportResult[] results) {
+        Set<LocalDate> dates = new HashSet<>();
+        Set<Integer> numeros = new HashSet<>();
+        candidates.values().forEach(course -> {
+            dates.add(course.getDate());
+            numeros.add(course.getNumero());
+        });
+        Set<Slot> existing = new HashSet<>();
+        for (CourseSummary summary : coursePersistencePort.findByDatesAndNumeros(dates, numeros)) {
+            existing.add(new Slot(summary.date(), summary.numero()));
+        }
+        candidates.entrySet().removeIf(candidate -> {
+            Course course = candidate.getValue();
+            if (!existing.contains(new Slot(course.getDate(), course.getNumero()))) {
+                return false;
+            }
+            int index = candidate.getKey();
+            results[index] = CourseImportResult.rejected(index, items.get(index), CourseImportResult.COURSE_DUPLICATED,
+                    "Une course avec la date " + course.getDate() + " et le numéro " + course.getNumero() + " existe déjà");
+            return true;
+        });
+    }
+
+    private static Course toCourse(CourseImportItem item) {
+        if (item.participants().size() > MAX_PARTICIPANTS) {
+            throw new IllegalArgumentException("Au plus " + MAX_PARTICIPANTS + " participants peuvent être inscrits à une course");
+        }
+        Course course = Course.create(item.nom(), item.date(), item.numero());
+        int dossard = 1;
+        for (String participant : item.participants()) {
+            course.addParticipant(participant, dossard++);
+        }
+        return course;
+    }
+
+    private record Slot(LocalDate date, Integer numero) {
+    }
+}
@@ -3,11 +3,16 @@ package com.pmu.courses_manager.domain.service;
 
 import com.pmu.courses_manager.domain.model.Course;
 import com.pmu.courses_manager.application.exception.CourseExisteDejaException;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CoursePage;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 import com.pmu.courses_manager.application.exception.CourseInexistanteException;
+import com.pmu.courses_manager.application.exception.CourseVersionMismatchException;
 import com.pmu.courses_manager.domain.port.out.CourseEventPort;
 import com.pmu.courses_manager.domain.port.in.CourseManagementUseCase;
 import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.CourseReadModelPort;
 import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,11 +29,13 @@ public class CourseService implements CourseManagementUseCase {
     private final CoursePersistencePort coursePersistencePort;
     private final CourseEventPort courseEventPort;
     private final OutboxEventPersistencePort outboxEventPersistencePort;
+    private final CourseReadModelPort courseReadModelPort;
 
-    public CourseService(CoursePersistencePort coursePersistencePort, CourseEventPort courseEventPort, OutboxEventPersistencePort outboxEventPersistencePort) {
+    public CourseService(CoursePersistencePort coursePersistencePort, CourseEventPort courseEventPort, OutboxEventPersistencePort outboxEventPersistencePort, CourseReadModelPort courseReadModelPort) {
         this.coursePersistencePort = coursePersistencePort;
         this.courseEventPort = courseEventPort;
         this.outboxEventPersistencePort = outboxEventPersistencePort;
+        this.courseReadModelPort = courseReadModelPort;
     }
 
     @Override
@@ -47,9 +54,14 @@ public class CourseService implements CourseManagementUseCase {
 
     @Override
     @Transactional
-    public void updateCourse(CourseId courseId, String nom, LocalDate date, Integer numero) {
+    public void updateCourse(CourseId courseId, String nom, LocalDate date, Integer numero, Long expectedVersion) {
         Course course = coursePersistencePort.findById(courseId)
                 .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
+        // La version est vérifiée de nouveau à l'écriture : une modification concurrente échoue aussi
+        if (expectedVersion != null && !expectedVersion.equals(course.getVersion())) {
+            throw new CourseVersionMismatchException(
+                    "La course " + courseId + " a été modifiée (version " + course.getVersion() + ")");
+        }
 
         if (date != null && numero != null &&
                 !date.equals(course.getDate()) && !numero.equals(course.getNumero()) &&
@@ -59,6 +71,9 @@ public class CourseService implements CourseManagementUseCase {
 
         course.updateDetails(nom, date, numero);
         Course updatedCourse = coursePersistencePort.save(course);
+        courseReadModelPort.invalidate(courseId, updatedCourse.getVersion());
+        outboxEventPersistencePort.saveUpdatedCourseEvent(updatedCourse);
+        outboxEventPersistencePort.saveCourseInvalidatedEvent(courseId);
     }
 
     @Override
@@ -68,19 +83,54 @@ public class CourseService implements CourseManagementUseCase {
             throw new CourseInexistanteException("Course non trouvée avec l'id : " + courseId);
         }
         coursePersistencePort.delete(courseId);
+        courseReadModelPort.invalidate(courseId, null);
+        outboxEventPersistencePort.saveDeletedCourseEvent(courseId);
+        outboxEventPersistencePort.saveCourseInvalidatedEvent(courseId);
     }
 
+    /**
+     * Sans transaction : une course présente dans le cache est servie sans connexion
+     */
     @Override
-    @Transactional(readOnly = true)
     public Course getCourseById(CourseId courseId) {
         return coursePersistencePort.findById(courseId)
                 .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
     }
 
+    @Override
+    public Course getLatestCourseById(CourseId courseId) {
+        return coursePersistencePort.findLatestById(courseId)
+                .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
+    }
+
+    /**
+     * Servi par la projection de lecture quand elle connaît la course, sans transaction
+     * ni connexion ; sinon par une requête unique sur la persistance
+     */
+    @Override
+    public CourseSummary getCourseSummaryById(CourseId courseId) {
+        return courseReadModelPort.findSummaryById(courseId)
+                .or(() -> coursePersistencePort.findSummaryById(courseId))
+                .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
+    }
+
+    @Override
+    public long getCourseVersion(CourseId courseId) {
+        return coursePersistencePort.findVersionById(courseId)
+                .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<Course> getAllCourses() {
-        return coursePersistencePort.findAll();
+    public CoursePage getCourses(CourseCursor after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // Une course de plus que demandé permet de savoir s'il existe une page suivante
+        List<CourseSummary> courses = coursePersistencePort.findPage(after, pageSize + 1);
+        if (courses.size() <= pageSize) {
+            return new CoursePage(courses, null);
+        }
+        List<CourseSummary> page = courses.subList(0, pageSize);
+        return new CoursePage(List.copyOf(page), CourseCursor.after(page.get(pageSize - 1)));
     }
 }
 
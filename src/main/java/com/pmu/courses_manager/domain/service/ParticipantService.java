@@ -9,13 +9,14 @@ import com.pmu.courses_manager.domain.model.ParticipantId;
 import com.pmu.courses_manager.domain.port.in.ParticipantManagementUseCase;
 import com.pmu.courses_manager.domain.port.out.CourseEventPort;
 import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.DossardAllocatorPort;
 import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
 import com.pmu.courses_manager.domain.port.out.ParticipantPersistencePort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * Service d'application pour la gestion des participants
@@ -27,40 +28,50 @@ public class ParticipantService implements ParticipantManagementUseCase {
     private final CourseEventPort courseEventPort;
     private final ParticipantPersistencePort participantPersistencePort;
     private final OutboxEventPersistencePort outboxEventPersistencePort;
+    private final DossardAllocatorPort dossardAllocatorPort;
 
 
-    public ParticipantService(CoursePersistencePort coursePersistencePort, CourseEventPort courseEventPort, ParticipantPersistencePort participantPersistencePort, OutboxEventPersistencePort outboxEventPersistencePort) {
+    public ParticipantService(CoursePersistencePort coursePersistencePort, CourseEventPort courseEventPort, ParticipantPersistencePort participantPersistencePort, OutboxEventPersistencePort outboxEventPersistencePort, DossardAllocatorPort dossardAllocatorPort) {
         this.coursePersistencePort = coursePersistencePort;
         this.courseEventPort = courseEventPort;
         this.participantPersistencePort = participantPersistencePort;
         this.outboxEventPersistencePort = outboxEventPersistencePort;
+        this.dossardAllocatorPort = dossardAllocatorPort;
     }
 
     @Override
     @Transactional
     public ParticipantId addParticipant(CourseId courseId, String nom) {
-        coursePersistencePort.findById(courseId)
-                .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
+        checkCourseExists(courseId);
 
-       var dossard = getNextParticipantNumber(courseId);
+        var dossard = dossardAllocatorPort.allocate(courseId, 1);
 
         Participant savedParticipant = participantPersistencePort.save(courseId, Participant.create(nom, dossard));
         outboxEventPersistencePort.saveAddedParticipantEvent(courseId, savedParticipant);
+        outboxEventPersistencePort.saveCourseInvalidatedEvent(courseId);
         return savedParticipant.getId();
     }
 
-    private Integer getNextParticipantNumber(CourseId courseId) {
-        Course course = coursePersistencePort.findById(courseId)
-                .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
-        if (course.getParticipants().isEmpty()) {
-            return 1;
+    @Override
+    @Transactional
+    public List<Participant> addParticipants(CourseId courseId, List<String> noms) {
+        checkCourseExists(courseId);
+
+        int firstDossard = dossardAllocatorPort.allocate(courseId, noms.size());
+        List<Participant> participants = IntStream.range(0, noms.size())
+                .mapToObj(i -> Participant.create(noms.get(i), firstDossard + i))
+                .toList();
+
+        List<Participant> savedParticipants = participantPersistencePort.saveAll(courseId, participants);
+        outboxEventPersistencePort.saveAddedParticipantEvents(courseId, savedParticipants);
+        outboxEventPersistencePort.saveCourseInvalidatedEvent(courseId);
+        return savedParticipants;
+    }
+
+    private void checkCourseExists(CourseId courseId) {
+        if (!coursePersistencePort.existsById(courseId)) {
+            throw new CourseInexistanteException("Course non trouvée avec l'id : " + courseId);
         }
-        return course.getParticipants().stream()
-                .map(Participant::getDossard)
-                .filter(Objects::nonNull)
-                .mapToInt(Integer::intValue)
-                .max()
-                .orElse(0) + 1;
     }
 
     @Override
@@ -69,8 +80,10 @@ public class ParticipantService implements ParticipantManagementUseCase {
         return participantPersistencePort.findById(participantId).orElseThrow(()-> new ParticipantInexistantException("Participant non trouvé avec l'id : " + participantId));
     }
 
+    /**
+     * Sans transaction : la course, participants compris, est lue par une requête unique ou depuis le cache
+     */
     @Override
-    @Transactional(readOnly = true)
     public List<Participant> getParticipantsByCourse(CourseId courseId) {
         Course course = coursePersistencePort.findById(courseId)
                 .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
@@ -0,0 +1,80 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import com.pmu.courses_manager.domain.model.CourseActivityEvent;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relaie localement les inscriptions, modifications et suppressions de course publiées
+ * par toutes les instances, sous forme de {@link CourseActivityEvent}, vers les abonnés du flux en direct.
+ * <p>
+ * Chaque instance consomme avec son propre groupe ({@code live-feed.group-id}), dérivé de
+ * {@code app.instance-id} pour être réutilisé au redémarrage. À chaque affectation, la lecture reprend
+ * à la fin des topics plutôt qu'aux positions validées : seuls les changements postérieurs à la connexion
+ * d'un abonné l'intéressent, l'état initial lui est envoyé à l'abonnement. La publication ne fait que déposer les événements dans les
+ * files des abonnés : le listener n'attend jamais un client lent.
+ */
+@Component
+public class CourseActivityListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseActivityListener.class);
+
+    private final EventCodecs eventCodecs;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CourseActivityListener(EventCodecs eventCodecs, ApplicationEventPublisher eventPublisher) {
+        this.eventCodecs = eventCodecs;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @KafkaListener(topics = {"participant-added", "course-updated", "course-deleted"},
+            groupId = "${live-feed.group-id:course-live-feed}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = {"auto.offset.reset=latest", "fetch.max.wait.ms=${live-feed.fetch-max-wait:50}"})
+    public void onCourseActivity(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                eventPublisher.publishEvent(toActivity(record));
+            } catch (RuntimeException e) {
+                logger.warn("Skipping undecodable {} record at offset {}", record.topic(), record.offset(), e);
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    private CourseActivityEvent toActivity(ConsumerRecord<String, byte[]> record) {
+        return switch (record.topic()) {
+            case "participant-added" -> {
+                ParticipantAddedEvent event = eventCodecs.decode(record, ParticipantAddedEvent.class);
+                yield CourseActivityEvent.participantAdded(
+                        new CourseId(event.getCourseId()),
+                        Participant.reconstitute(new ParticipantId(event.getParticipantId()), event.getNom(), event.getDossard()));
+            }
+            case "course-updated" -> {
+                CourseUpdatedEvent event = eventCodecs.decode(record, CourseUpdatedEvent.class);
+                yield CourseActivityEvent.courseUpdated(
+                        new CourseSummary(new CourseId(event.courseId()), event.nom(), event.date(), event.numero()));
+            }
+            case "course-deleted" -> CourseActivityEvent.courseDeleted(
+                    new CourseId(eventCodecs.decode(record, CourseDeletedEvent.class).courseId()));
+            default -> throw new IllegalArgumentException("Unexpected topic " + record.topic());
+        };
+    }
+}
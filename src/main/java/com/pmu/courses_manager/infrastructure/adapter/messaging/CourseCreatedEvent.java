@@ -3,6 +3,12 @@ package com.pmu.courses_manager.infrastructure.adapter.messaging;
 import java.time.LocalDate;
 
 /**
- * Classes d'événements (Event DTO)
+ * Classes d'événements (Event DTO).
+ * {@code version} est celle de la course créée ; absente des événements publiés avant son introduction.
  */
-public record CourseCreatedEvent(Long courseId, String nom, LocalDate date, Integer numero) {}
+public record CourseCreatedEvent(Long courseId, String nom, LocalDate date, Integer numero, Long version) {
+
+    public CourseCreatedEvent(Long courseId, String nom, LocalDate date, Integer numero) {
+        this(courseId, nom, date, numero, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+/**
+ * Suppression d'une course et de ses participants
+ */
+public record CourseDeletedEvent(Long courseId) {}
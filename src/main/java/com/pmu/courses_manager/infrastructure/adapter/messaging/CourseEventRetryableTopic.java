@@ -0,0 +1,34 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Politique de reprise non bloquante commune aux listeners des événements de course :
+ * topics {@code <topic>-retry-N} à délai exponentiel, puis {@code <topic>-dlt}.
+ * Un événement indécodable ({@link IllegalArgumentException}) part directement en DLT.
+ * <p>
+ * Portée par une méta-annotation plutôt que par un bean {@code RetryTopicConfiguration} :
+ * un tel bean s'applique par nom de topic, donc aussi aux listeners par lots de la projection
+ * abonnés aux mêmes topics.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@RetryableTopic(
+        attempts = "${events.consumer.retry.attempts:4}",
+        backoff = @Backoff(
+                delayExpression = "${events.consumer.retry.delay:1000}",
+                multiplierExpression = "${events.consumer.retry.multiplier:2}",
+                maxDelayExpression = "${events.consumer.retry.max-delay:30000}"),
+        topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+        exclude = IllegalArgumentException.class)
+@interface CourseEventRetryableTopic {
+}
@@ -0,0 +1,16 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import java.time.LocalDate;
+
+/**
+ * Signale qu'une course a changé : les copies locales (cache, projection) doivent être évincées.
+ * Porte l'état de la course après le changement et sa version, y compris pour une inscription
+ * qui ne fait qu'incrémenter la version ; seul l'identifiant est renseigné pour une course supprimée
+ * (ou un événement publié avant l'introduction de l'état).
+ */
+public record CourseInvalidatedEvent(Long courseId, String nom, LocalDate date, Integer numero, Long version) {
+
+    public CourseInvalidatedEvent(Long courseId) {
+        this(courseId, null, null, null, null);
+    }
+}
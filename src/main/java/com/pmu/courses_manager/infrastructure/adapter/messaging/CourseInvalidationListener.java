@@ -0,0 +1,62 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.port.out.CourseReadModelPort;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.CourseCache;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applique localement les invalidations de course publiées par toutes les instances
+ * sur le topic compacté {@code course-invalidations}.
+ * <p>
+ * Chaque instance consomme avec son propre groupe ({@code course-cache.invalidation.group-id}),
+ * dérivé de {@code app.instance-id} pour être réutilisé au redémarrage, à partir de la fin du topic : le cache démarre vide, l'historique est inutile. À chaque
+ * affectation de partitions, les invalidations publiées pendant l'interruption ont pu être
+ * manquées : le cache local est alors vidé.
+ */
+@Component
+public class CourseInvalidationListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseInvalidationListener.class);
+
+    private final EventCodecs eventCodecs;
+    private final CourseCache courseCache;
+    private final CourseReadModelPort courseReadModelPort;
+
+    public CourseInvalidationListener(EventCodecs eventCodecs, CourseCache courseCache, CourseReadModelPort courseReadModelPort) {
+        this.eventCodecs = eventCodecs;
+        this.courseCache = courseCache;
+        this.courseReadModelPort = courseReadModelPort;
+    }
+
+    @KafkaListener(topics = "course-invalidations",
+            groupId = "${course-cache.invalidation.group-id:course-cache}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = {"auto.offset.reset=latest", "fetch.max.wait.ms=${course-cache.invalidation.fetch-max-wait:50}"})
+    public void onCoursesInvalidated(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                CourseInvalidatedEvent event = eventCodecs.decode(record, CourseInvalidatedEvent.class);
+                CourseId courseId = new CourseId(event.courseId());
+                courseCache.evict(courseId);
+                courseReadModelPort.invalidate(courseId, event.version());
+            } catch (RuntimeException e) {
+                logger.warn("Skipping undecodable course-invalidations record at offset {}", record.offset(), e);
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        courseCache.evictAll();
+    }
+}
@@ -1,20 +1,23 @@
 package com.pmu.courses_manager.infrastructure.adapter.messaging;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pmu.courses_manager.domain.model.Course;
 import com.pmu.courses_manager.domain.model.CourseId;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.port.out.CourseEventPort;
-import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxJpaRepository;
-import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Adaptateur Kafka pour la publication des événements
@@ -24,18 +27,24 @@ public class CourseKafkaAdapter implements CourseEventPort {
 
     private static final Logger logger = LoggerFactory.getLogger(CourseKafkaAdapter.class);
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
-    private final OutboxJpaRepository outboxJpaRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventCodecs eventCodecs;
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Disjoncteur partagé par toutes les publications vers Kafka, relais de l'outbox compris
+     */
+    public static final String KAFKA_PUBLISH_CIRCUIT_BREAKER = "kafkaPublish";
 
     // Noms des topics Kafka
     private static final String COURSE_CREATED_TOPIC = "course-created";
     private static final String PARTICIPANT_ADDED_TOPIC = "participant-added";
 
-    public CourseKafkaAdapter(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper, OutboxJpaRepository outboxJpaRepository) {
+    public CourseKafkaAdapter(KafkaTemplate<String, byte[]> kafkaTemplate, EventCodecs eventCodecs,
+                              CircuitBreakerRegistry circuitBreakerRegistry) {
         this.kafkaTemplate = kafkaTemplate;
-        this.objectMapper = objectMapper;
-        this.outboxJpaRepository = outboxJpaRepository;
+        this.eventCodecs = eventCodecs;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(KAFKA_PUBLISH_CIRCUIT_BREAKER);
     }
 
     @Override
@@ -47,8 +56,7 @@ public class CourseKafkaAdapter implements CourseEventPort {
                     course.getDate(),
                     course.getNumero());
 
-            String payload = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send(COURSE_CREATED_TOPIC, course.getId().toString(), payload);
+            send(toRecord(COURSE_CREATED_TOPIC, course.getId().toString(), event));
 
             logger.info("Event published: CourseCreated - {}", course.getId());
         } catch (Exception e) {
@@ -66,8 +74,7 @@ public class CourseKafkaAdapter implements CourseEventPort {
                     participant.getNom(),
                     participant.getDossard());
 
-            String payload = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send(PARTICIPANT_ADDED_TOPIC, courseId.toString(), payload);
+            send(toRecord(PARTICIPANT_ADDED_TOPIC, courseId.toString(), event));
 
             logger.info("Event published: ParticipantAdded - Course: {}, Participant: {}",
                     courseId, participant.getId());
@@ -76,17 +83,38 @@ public class CourseKafkaAdapter implements CourseEventPort {
             throw new EventPublicationException("Failed to publish ParticipantAdded event", e);
         }
     }
-    @Scheduled(fixedDelay = 5000)
-    public void publishOutboxEvents() {
-        List<OutboxEvent> events = outboxJpaRepository.findAllBySentFalse();
 
-        for (OutboxEvent event : events) {
-            kafkaTemplate.send(event.getTopic(), event.getPayload());
-            event.setSent(true);
+    /**
+     * Envoi protégé par le disjoncteur : circuit ouvert, l'appel échoue immédiatement
+     * au lieu de bloquer sur un broker indisponible ; l'acquittement alimente ses statistiques.
+     * Un échec synchrone de l'envoi (sérialisation, métadonnées indisponibles) est compté comme
+     * une erreur, sans quoi la permission obtenue ne serait jamais rendue au disjoncteur.
+     */
+    private void send(ProducerRecord<String, byte[]> record) {
+        circuitBreaker.acquirePermission();
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> future;
+        try {
+            future = kafkaTemplate.send(record);
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
         }
-        outboxJpaRepository.saveAll(events);
+        future.whenComplete((result, failure) -> {
+            long duration = System.nanoTime() - start;
+            if (failure == null) {
+                circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+            } else {
+                circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, failure);
+            }
+        });
     }
-}
-
-
 
+    private ProducerRecord<String, byte[]> toRecord(String topic, String key, Object event) {
+        EventCodec codec = eventCodecs.writer();
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, codec.encode(event));
+        record.headers().add(EventCodec.CONTENT_TYPE_HEADER, codec.contentType().getBytes(StandardCharsets.UTF_8));
+        EventHeaders.setEventId(record, UUID.randomUUID());
+        return record;
+    }
+}
@@ -0,0 +1,268 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.port.out.CourseReadModelPort;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Projection en mémoire des courses, construite à partir des topics {@code course-created},
+ * {@code course-updated}, {@code course-invalidations} et {@code course-deleted} (lecture CQRS).
+ * <p>
+ * Chaque instance consomme l'intégralité des topics avec son propre groupe
+ * ({@code read-model.group-id}, stable d'un redémarrage à l'autre) et reconstruit la projection
+ * au démarrage en relisant chaque partition depuis le début, quel que soit l'offset commité.
+ * Les événements sont clés par course : une course est toujours traitée par le même thread
+ * du conteneur, quelle que soit la concurrence configurée.
+ * <p>
+ * Chaque événement porte l'état complet de la course et la version atteinte ; les invalidations
+ * couvrent aussi les inscriptions, qui n'incrémentent que la version. Les topics ne sont pas ordonnés
+ * entre eux : seul un état de version supérieure remplace le résumé connu. Seuls les résumés versionnés
+ * sont servis, pour que les réponses portent toujours leur ETag, et jamais en deçà de la dernière version
+ * signalée par {@link #invalidate(CourseId, Long)}. Une course supprimée reste marquée comme telle
+ * pour qu'aucun événement retardataire ne la fasse réapparaître. Cette marque est oubliée dès que
+ * chaque partition de création et de modification a été consommée au-delà de l'horodatage de la
+ * suppression, ou s'est trouvée à jour (conteneur inactif) après celle-ci : plus aucun événement
+ * antérieur de la course ne peut alors arriver.
+ */
+@Component
+public class CourseProjection implements CourseReadModelPort, ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseProjection.class);
+
+    private static final String COURSE_CREATED_TOPIC = "course-created";
+    private static final String COURSE_UPDATED_TOPIC = "course-updated";
+    private static final String COURSE_INVALIDATIONS_TOPIC = "course-invalidations";
+    // Topics dont un événement retardataire pourrait faire réapparaître une course supprimée
+    private static final Set<String> GUARDED_TOPICS = Set.of(COURSE_CREATED_TOPIC, COURSE_UPDATED_TOPIC, COURSE_INVALIDATIONS_TOPIC);
+
+    private final EventCodecs eventCodecs;
+    private final boolean enabled;
+    private final Map<Long, ProjectedCourse> courses = new ConcurrentHashMap<>();
+    // Courses supprimées et horodatage de leur suppression
+    private final Map<Long, Long> tombstones = new ConcurrentHashMap<>();
+    // Horodatage jusqu'où chaque partition affectée a été consommée
+    private final Map<TopicPartition, Long> consumedUpTo = new ConcurrentHashMap<>();
+    // Partitions déjà relues depuis le début par cette instance
+    private final Set<TopicPartition> replayed = ConcurrentHashMap.newKeySet();
+
+    public CourseProjection(EventCodecs eventCodecs, @Value("${read-model.enabled:false}") boolean enabled) {
+        this.eventCodecs = eventCodecs;
+        this.enabled = enabled;
+    }
+
+    @KafkaListener(topics = COURSE_CREATED_TOPIC, groupId = "${read-model.group-id:course-read-model}",
+            containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "${read-model.enabled:false}")
+    public void onCoursesCreated(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                CourseCreatedEvent event = eventCodecs.decode(record, CourseCreatedEvent.class);
+                project(new CourseSummary(
+                        new CourseId(event.courseId()), event.nom(), event.date(), event.numero(), event.version()), true);
+            } catch (RuntimeException e) {
+                logger.warn("Skipping undecodable course-created record at offset {}", record.offset(), e);
+            }
+        }
+        consumed(records);
+    }
+
+    @KafkaListener(topics = COURSE_UPDATED_TOPIC, groupId = "${read-model.group-id:course-read-model}",
+            containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "${read-model.enabled:false}")
+    public void onCoursesUpdated(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                CourseUpdatedEvent event = eventCodecs.decode(record, CourseUpdatedEvent.class);
+                project(new CourseSummary(
+                        new CourseId(event.courseId()), event.nom(), event.date(), event.numero(), event.version()), false);
+            } catch (RuntimeException e) {
+                logger.warn("Skipping undecodable course-updated record at offset {}", record.offset(), e);
+            }
+        }
+        consumed(records);
+    }
+
+    @KafkaListener(topics = COURSE_INVALIDATIONS_TOPIC, groupId = "${read-model.group-id:course-read-model}",
+            containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "${read-model.enabled:false}")
+    public void onCoursesInvalidated(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                CourseInvalidatedEvent event = eventCodecs.decode(record, CourseInvalidatedEvent.class);
+                // Sans version, l'invalidation d'une suppression : traitée par course-deleted
+                if (event.version() != null) {
+                    project(new CourseSummary(
+                            new CourseId(event.courseId()), event.nom(), event.date(), event.numero(), event.version()), false);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Skipping undecodable course-invalidations record at offset {}", record.offset(), e);
+            }
+        }
+        consumed(records);
+    }
+
+    @KafkaListener(topics = "course-deleted", groupId = "${read-model.group-id:course-read-model}",
+            containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "${read-model.enabled:false}")
+    public void onCoursesDeleted(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                CourseDeletedEvent event = eventCodecs.decode(record, CourseDeletedEvent.class);
+                ProjectedCourse course = courses.computeIfAbsent(event.courseId(), id -> new ProjectedCourse());
+                synchronized (course) {
+                    course.deleted = true;
+                    course.summary = null;
+                }
+                tombstones.merge(event.courseId(), record.timestamp(), Math::max);
+            } catch (RuntimeException e) {
+                logger.warn("Skipping undecodable course-deleted record at offset {}", record.offset(), e);
+            }
+        }
+        consumed(records);
+    }
+
+    /**
+     * Une partition inactive est à jour : tout ce qui y a été publié avant le début
+     * de l'inactivité a été consommé
+     */
+    @EventListener
+    public void onContainerIdle(ListenerContainerIdleEvent event) {
+        long caughtUpAt = event.getTimestamp() - event.getIdleTime();
+        event.getTopicPartitions().forEach(partition ->
+                consumedUpTo.computeIfPresent(partition, (p, upTo) -> Math.max(upTo, caughtUpAt)));
+        evictPassedTombstones();
+    }
+
+    /**
+     * Relit chaque partition depuis le début lors de sa première affectation à l'instance ;
+     * une réaffectation ultérieure (rééquilibrage entre les threads) reprend à l'offset commité
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<TopicPartition> firstAssigned = assignments.keySet().stream()
+                .filter(replayed::add)
+                .toList();
+        if (!firstAssigned.isEmpty()) {
+            callback.seekToBeginning(firstAssigned);
+        }
+        assignments.keySet().forEach(partition -> consumedUpTo.putIfAbsent(partition, Long.MIN_VALUE));
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitions.forEach(consumedUpTo::remove);
+    }
+
+    @Override
+    public Optional<CourseSummary> findSummaryById(CourseId courseId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        ProjectedCourse course = courses.get(courseId.getValue());
+        if (course == null) {
+            return Optional.empty();
+        }
+        CourseSummary summary = course.summary;
+        if (summary == null || summary.version() == null || summary.version() < course.floor) {
+            return Optional.empty();
+        }
+        return Optional.of(summary);
+    }
+
+    @Override
+    public void invalidate(CourseId courseId, Long version) {
+        if (version == null) {
+            courses.remove(courseId.getValue());
+            tombstones.remove(courseId.getValue());
+            return;
+        }
+        ProjectedCourse course = courses.computeIfAbsent(courseId.getValue(), id -> new ProjectedCourse());
+        synchronized (course) {
+            course.floor = Math.max(course.floor, version);
+        }
+    }
+
+    /**
+     * Remplace le résumé connu par un état plus récent ; une course supprimée n'est plus projetée
+     */
+    private void project(CourseSummary candidate, boolean creation) {
+        ProjectedCourse course = courses.computeIfAbsent(candidate.id().getValue(), id -> new ProjectedCourse());
+        synchronized (course) {
+            if (!course.deleted && newer(candidate, course.summary, creation)) {
+                course.summary = candidate;
+            }
+        }
+    }
+
+    /**
+     * Comparaison par version. Pour les événements antérieurs à la version, l'ordre de la partition fait foi :
+     * une modification remplace un résumé non versionné, une création ne remplace rien
+     */
+    private static boolean newer(CourseSummary candidate, CourseSummary current, boolean creation) {
+        if (current == null) {
+            return true;
+        }
+        if (candidate.version() == null) {
+            return !creation && current.version() == null;
+        }
+        return current.version() == null || candidate.version() > current.version();
+    }
+
+    private void consumed(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            consumedUpTo.computeIfPresent(new TopicPartition(record.topic(), record.partition()),
+                    (partition, upTo) -> Math.max(upTo, record.timestamp()));
+        }
+        evictPassedTombstones();
+    }
+
+    /**
+     * Oublie les suppressions que toutes les partitions de création et de modification ont dépassées.
+     * Rien n'est oublié tant qu'un des topics concernés n'a aucune partition affectée.
+     */
+    private void evictPassedTombstones() {
+        if (tombstones.isEmpty()) {
+            return;
+        }
+        Map<String, Long> lowWatermarks = new HashMap<>();
+        consumedUpTo.forEach((partition, upTo) -> {
+            if (GUARDED_TOPICS.contains(partition.topic())) {
+                lowWatermarks.merge(partition.topic(), upTo, Math::min);
+            }
+        });
+        if (!lowWatermarks.keySet().containsAll(GUARDED_TOPICS)) {
+            return;
+        }
+        long passed = Collections.min(lowWatermarks.values());
+        tombstones.entrySet().removeIf(tombstone -> {
+            if (tombstone.getValue() >= passed) {
+                return false;
+            }
+            courses.computeIfPresent(tombstone.getKey(), (id, course) -> course.deleted ? null : course);
+            return true;
+        });
+    }
+
+    private static final class ProjectedCourse {
+
+        private volatile CourseSummary summary;
+        private volatile boolean deleted;
+        // Dernière version signalée par une invalidation : aucun résumé plus ancien n'est servi
+        private volatile long floor = -1;
+    }
+}
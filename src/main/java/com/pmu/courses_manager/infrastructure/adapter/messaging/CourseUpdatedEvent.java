@@ -0,0 +1,14 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import java.time.LocalDate;
+
+/**
+ * Nouvel état d'une course après modification de ses détails, avec la version atteinte
+ * (absente des événements publiés avant son introduction)
+ */
+public record CourseUpdatedEvent(Long courseId, String nom, LocalDate date, Integer numero, Long version) {
+
+    public CourseUpdatedEvent(Long courseId, String nom, LocalDate date, Integer numero) {
+        this(courseId, nom, date, numero, null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fenêtre de déduplication bornée en mémoire : retient les identifiants d'événements
+ * vus pendant {@code window}, dans la limite de {@code maxEntries} (les plus anciens sont
+ * oubliés en premier). Chaque vérification est en O(1) amorti, sans accès à la base.
+ * <p>
+ * Un doublon arrivé après l'expiration de la fenêtre ou après éviction est traité de nouveau :
+ * la fenêtre doit couvrir le délai de republication du relais.
+ */
+public class DedupeWindow {
+
+    private final int maxEntries;
+    private final long windowMillis;
+    private final Clock clock;
+    // Ordre d'insertion = ordre d'expiration, les plus anciens en tête
+    private final LinkedHashMap<String, Long> seen;
+
+    public DedupeWindow(int maxEntries, Duration window, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.seen = new LinkedHashMap<>(Math.min(maxEntries, 1 << 16), 0.75f) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > DedupeWindow.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Enregistre l'identifiant et indique s'il n'avait pas encore été vu dans la fenêtre
+     */
+    public synchronized boolean firstSeen(String eventId) {
+        long now = clock.millis();
+        expire(now);
+        return seen.putIfAbsent(eventId, now) == null;
+    }
+
+    /**
+     * Indique si l'identifiant a déjà été enregistré dans la fenêtre, sans l'enregistrer
+     */
+    public synchronized boolean contains(String eventId) {
+        expire(clock.millis());
+        return seen.containsKey(eventId);
+    }
+
+    public synchronized int size() {
+        return seen.size();
+    }
+
+    private void expire(long now) {
+        Iterator<Long> timestamps = seen.values().iterator();
+        while (timestamps.hasNext() && now - timestamps.next() >= windowMillis) {
+            timestamps.remove();
+        }
+    }
+}
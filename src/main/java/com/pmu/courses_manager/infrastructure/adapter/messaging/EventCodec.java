@@ -0,0 +1,20 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+/**
+ * Encodage des événements publiés, stockés dans l'outbox puis transmis tels quels à Kafka.
+ * Le type de contenu accompagne chaque charge utile (colonne de l'outbox, en-tête Kafka)
+ * pour que les consommateurs décodent les anciens messages après un changement de format.
+ */
+public interface EventCodec {
+
+    /**
+     * En-tête Kafka portant le type de contenu de la valeur
+     */
+    String CONTENT_TYPE_HEADER = "content-type";
+
+    String contentType();
+
+    byte[] encode(Object event);
+
+    <T> T decode(byte[] payload, Class<T> type);
+}
@@ -0,0 +1,90 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Codecs d'événements disponibles : un codec d'écriture, configurable,
+ * et la résolution par type de contenu côté lecture
+ */
+public class EventCodecs {
+
+    private final EventCodec writer;
+    private final EventCodec fallback;
+    private final Map<String, EventCodec> byContentType;
+    // Types de contenu encodés, pour reconnaître l'en-tête Kafka sans le convertir en String
+    private final List<Map.Entry<byte[], EventCodec>> byContentTypeBytes;
+
+    /**
+     * @param codecs   codecs connus
+     * @param writer   type de contenu utilisé pour les nouveaux événements
+     * @param fallback type de contenu supposé quand un message n'en porte pas
+     */
+    public EventCodecs(List<EventCodec> codecs, String writer, String fallback) {
+        this.byContentType = codecs.stream()
+                .collect(Collectors.toMap(EventCodec::contentType, Function.identity()));
+        this.byContentTypeBytes = codecs.stream()
+                .map(codec -> Map.entry(codec.contentType().getBytes(StandardCharsets.UTF_8), codec))
+                .toList();
+        this.writer = forContentType(writer);
+        this.fallback = forContentType(fallback);
+    }
+
+    public EventCodec writer() {
+        return writer;
+    }
+
+    public EventCodec forContentType(String contentType) {
+        if (contentType == null) {
+            return fallback;
+        }
+        EventCodec codec = byContentType.get(contentType);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unsupported event content type: " + contentType);
+        }
+        return codec;
+    }
+
+    /**
+     * Décode la valeur d'un enregistrement Kafka selon son en-tête de type de contenu.
+     * <p>
+     * Les messages publiés avant l'introduction des codecs n'ont pas d'en-tête et sont doublement
+     * encodés : le {@code JsonSerializer} d'alors sérialisait l'événement déjà converti en JSON,
+     * produisant un littéral de chaîne JSON. Ce littéral est déballé avant le décodage.
+     */
+    public <T> T decode(ConsumerRecord<String, byte[]> record, Class<T> type) {
+        Header contentType = record.headers().lastHeader(EventCodec.CONTENT_TYPE_HEADER);
+        if (contentType == null) {
+            return fallback.decode(unwrapLegacy(record.value()), type);
+        }
+        return codecFor(contentType.value()).decode(record.value(), type);
+    }
+
+    private byte[] unwrapLegacy(byte[] payload) {
+        for (byte b : payload) {
+            if (b == '"') {
+                return fallback.decode(payload, String.class).getBytes(StandardCharsets.UTF_8);
+            }
+            if (!Character.isWhitespace(b)) {
+                return payload;
+            }
+        }
+        return payload;
+    }
+
+    private EventCodec codecFor(byte[] contentType) {
+        for (Map.Entry<byte[], EventCodec> codec : byContentTypeBytes) {
+            if (Arrays.equals(codec.getKey(), contentType)) {
+                return codec.getValue();
+            }
+        }
+        return forContentType(new String(contentType, StandardCharsets.UTF_8));
+    }
+}
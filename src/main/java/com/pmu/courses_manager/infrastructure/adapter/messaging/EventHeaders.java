@@ -0,0 +1,60 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * En-têtes Kafka des événements publiés
+ */
+public final class EventHeaders {
+
+    /**
+     * Identifiant unique de l'événement, repris de l'outbox : identique d'une republication à l'autre
+     */
+    public static final String EVENT_ID = "event-id";
+
+    /**
+     * Instant d'écriture de l'événement dans l'outbox, en millisecondes epoch
+     */
+    public static final String CREATED_AT = "event-created-at";
+
+    /**
+     * Instant d'envoi par le relais, en millisecondes epoch
+     */
+    public static final String SENT_AT = "event-sent-at";
+
+    private EventHeaders() {
+    }
+
+    public static void setEventId(ProducerRecord<String, byte[]> record, UUID eventId) {
+        record.headers().add(EVENT_ID, eventId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Identifiant de l'événement, ou {@code null} pour un message publié sans identifiant
+     */
+    public static String eventId(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(EVENT_ID);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    public static void setTimestamps(ProducerRecord<String, byte[]> record, Instant createdAt, Instant sentAt) {
+        record.headers().add(CREATED_AT, Long.toString(createdAt.toEpochMilli()).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(SENT_AT, Long.toString(sentAt.toEpochMilli()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Instant porté par l'en-tête donné, ou {@code null} s'il est absent
+     */
+    public static Instant timestamp(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null
+                ? null
+                : Instant.ofEpochMilli(Long.parseLong(new String(header.value(), StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Codec adossé à un {@link ObjectMapper} Jackson : JSON ou CBOR selon le mapper fourni.
+ * Le décodage part directement des octets reçus, sans {@code String} intermédiaire,
+ * avec un {@link ObjectReader} préparé une fois par type d'événement.
+ */
+public class JacksonEventCodec implements EventCodec {
+
+    private final String contentType;
+    private final ObjectMapper mapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JacksonEventCodec(String contentType, ObjectMapper mapper) {
+        this.contentType = contentType;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public String contentType() {
+        return contentType;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        try {
+            return mapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new EventPublicationException("Failed to encode " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) {
+        try {
+            return reader(type).readValue(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode " + type.getSimpleName() + " as " + contentType, e);
+        }
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        // get() d'abord : computeIfAbsent allouerait une lambda à chaque appel
+        ObjectReader reader = readers.get(type);
+        return reader != null ? reader : readers.computeIfAbsent(type, mapper::readerFor);
+    }
+}
@@ -1,17 +1,116 @@
 package com.pmu.courses_manager.infrastructure.adapter.messaging;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Consommateur des événements de course.
+ * <p>
+ * Un enregistrement en échec ne bloque pas sa partition : il est republié sur une chaîne de
+ * topics de reprise ({@code <topic>-retry-0}, {@code -retry-1}, ...) avec un délai exponentiel,
+ * puis sur {@code <topic>-dlt} une fois les tentatives épuisées. Un événement indécodable part
+ * directement en DLT. Les compteurs {@code events.consumed} et {@code events.consume.failures}
+ * sont étiquetés par topic, donc par étape de la chaîne ; {@code events.dead.lettered} compte les abandons.
+ */
 @Service
 public class KafkaConsumerService {
 
+    private static final Logger logger = LoggerFactory.getLogger(KafkaConsumerService.class);
+
+    private final EventCodecs eventCodecs;
+    private final DedupeWindow dedupeWindow;
+    private final MeterRegistry meterRegistry;
+
+    public KafkaConsumerService(EventCodecs eventCodecs,
+                                MeterRegistry meterRegistry,
+                                @Value("${events.consumer.dedupe.max-entries:100000}") int dedupeMaxEntries,
+                                @Value("${events.consumer.dedupe.window:1h}") Duration dedupeWindow) {
+        this.eventCodecs = eventCodecs;
+        this.dedupeWindow = new DedupeWindow(dedupeMaxEntries, dedupeWindow, Clock.systemUTC());
+        this.meterRegistry = meterRegistry;
+    }
+
+    @CourseEventRetryableTopic
     @KafkaListener(topics = "course-created", groupId = "my-group")
-    public void courseCreationListner(String message) {
-        System.out.println("Course Created: " + message);
+    public void courseCreationListner(ConsumerRecord<String, byte[]> record) {
+        consume(record, r -> logger.info("Course created: {}", eventCodecs.decode(r, CourseCreatedEvent.class)));
     }
+
+    @CourseEventRetryableTopic
     @KafkaListener(topics = "participant-added", groupId = "my-group")
-    public void participantAddListner(String message) {
-        System.out.println("Participant Added: " + message);
+    public void participantAddListner(ConsumerRecord<String, byte[]> record) {
+        consume(record, r -> logger.info("Participant added: {}", eventCodecs.decode(r, ParticipantAddedEvent.class)));
+    }
+
+    @DltHandler
+    public void deadLetter(ConsumerRecord<String, byte[]> record,
+                           @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String reason) {
+        Counter.builder("events.dead.lettered")
+                .tag("topic", record.topic())
+                .register(meterRegistry)
+                .increment();
+        logger.error("Event {} dead-lettered on {}@{}: {}",
+                EventHeaders.eventId(record), record.topic(), record.offset(), reason);
+    }
+
+    /**
+     * Traite un enregistrement s'il n'est pas un doublon. L'identifiant n'est retenu qu'après
+     * un traitement réussi : une tentative de reprise du même événement n'est pas écartée.
+     */
+    private void consume(ConsumerRecord<String, byte[]> record, Consumer<ConsumerRecord<String, byte[]>> handler) {
+        String eventId = EventHeaders.eventId(record);
+        if (eventId != null && dedupeWindow.contains(eventId)) {
+            logger.debug("Dropping duplicate event {} from {}-{}@{}", eventId, record.topic(), record.partition(), record.offset());
+            return;
+        }
+        try {
+            handler.accept(record);
+        } catch (RuntimeException e) {
+            Counter.builder("events.consume.failures")
+                    .tag("topic", record.topic())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+        if (eventId != null) {
+            dedupeWindow.firstSeen(eventId);
+        }
+        Counter.builder("events.consumed")
+                .tag("topic", record.topic())
+                .register(meterRegistry)
+                .increment();
+        recordLatency(record);
+    }
+
+    /**
+     * Latence de bout en bout, de l'écriture dans l'outbox à la fin du traitement.
+     * Les horloges des instances productrices et consommatrices doivent être synchronisées.
+     */
+    private void recordLatency(ConsumerRecord<String, byte[]> record) {
+        Instant createdAt = EventHeaders.timestamp(record, EventHeaders.CREATED_AT);
+        if (createdAt == null) {
+            return;
+        }
+        Timer.builder("events.consume.latency")
+                .description("Time from outbox insert to consumer processing")
+                .tag("topic", record.topic())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(createdAt, Instant.now()));
     }
 }
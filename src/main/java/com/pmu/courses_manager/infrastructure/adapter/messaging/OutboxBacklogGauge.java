@@ -0,0 +1,49 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Jauge {@code outbox.oldest.unsent.age} : âge en secondes du plus ancien événement non envoyé
+ * (0 quand le backlog est vide). La valeur est rafraîchie périodiquement plutôt qu'à chaque
+ * lecture de la jauge, pour que la collecte des métriques ne sollicite pas la base.
+ */
+@Component
+public class OutboxBacklogGauge {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxBacklogGauge.class);
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private volatile LocalDateTime oldestUnsent;
+
+    public OutboxBacklogGauge(OutboxJpaRepository outboxJpaRepository, MeterRegistry meterRegistry) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        Gauge.builder("outbox.oldest.unsent.age", this, OutboxBacklogGauge::oldestUnsentAgeSeconds)
+                .description("Age of the oldest unsent outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval:15s}")
+    public void refresh() {
+        try {
+            oldestUnsent = outboxJpaRepository.findOldestUnsentCreatedAt();
+        } catch (DataAccessException e) {
+            logger.warn("Unable to refresh outbox backlog age", e);
+        }
+    }
+
+    double oldestUnsentAgeSeconds() {
+        LocalDateTime oldest = oldestUnsent;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+}
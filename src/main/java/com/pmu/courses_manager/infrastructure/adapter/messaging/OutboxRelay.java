@@ -0,0 +1,435 @@
+package com.pmu.courses_manager.infrastructure.adapter.messaging;
+
+import com.pmu.courses_manager.infrastructure.adapter.persistence.ChangeFeedSequenceJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxEventsRecordedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxShardJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Relais de l'outbox vers Kafka.
+ * Traite le backlog par lots bornés, chaque lot dans sa propre transaction,
+ * jusqu'à ce qu'il soit vidé. Seuls les événements acquittés par le broker
+ * sont marqués comme envoyés (livraison au moins une fois).
+ * <p>
+ * Les événements sont publiés avec leur clé d'agrégat et répartis en
+ * {@code outbox.relay.workers} shards selon le hash de cette clé. Chaque shard est
+ * traité par un worker dédié, qui verrouille la ligne du shard le temps d'un lot :
+ * les shards avancent en parallèle tandis que l'ordre par course est préservé.
+ * Les lignes écrites avant l'introduction des shards n'ont ni clé ni hash ({@code key_hash} 0) :
+ * elles sont toutes relayées par le shard 0, dans leur ordre de création, et publiées sans clé
+ * comme avant la migration. Ce backlog transitoire n'est pas redistribué.
+ * <p>
+ * Le relais numérote aussi les événements commités pour le flux de changements ({@code seq}),
+ * indépendamment de leur envoi. Chaque lot est numéroté sous le verrou du compteur
+ * {@code change_feed_sequence} : un numéro n'est visible qu'une fois tous les numéros inférieurs
+ * commités, si bien qu'un curseur client ne peut jamais dépasser un événement encore invisible.
+ * <p>
+ * Métriques : {@code outbox.dwell} (écriture → envoi acquitté, mesuré une fois par événement)
+ * et {@code outbox.send} (envoi → acquittement, à chaque tentative réussie).
+ * <p>
+ * Une passe est déclenchée dès le commit d'une transaction ayant écrit dans l'outbox.
+ * Le poll ne sert que de filet de sécurité (échecs d'envoi, redémarrages) : son
+ * intervalle double à chaque passe vide, jusqu'à {@code outbox.relay.poll.max-interval}.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final OutboxShardJpaRepository outboxShardJpaRepository;
+    private final ChangeFeedSequenceJpaRepository changeFeedSequenceJpaRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Executor relayExecutor;
+    private final long minPollIntervalNanos;
+    private final long maxPollIntervalNanos;
+    private final List<Worker> workers;
+    private final Worker sequencer;
+    private final Timer dwellTimer;
+    private final Timer sendTimer;
+    private final CircuitBreaker circuitBreaker;
+
+    private volatile long pollIntervalNanos;
+    private volatile long nextPollAt = System.nanoTime();
+
+    public OutboxRelay(OutboxJpaRepository outboxJpaRepository,
+                       OutboxShardJpaRepository outboxShardJpaRepository,
+                       ChangeFeedSequenceJpaRepository changeFeedSequenceJpaRepository,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       @Qualifier("outboxRelayExecutor") Executor relayExecutor,
+                       @Value("${outbox.relay.workers:4}") int workers,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.send-timeout:10s}") Duration sendTimeout,
+                       @Value("${outbox.relay.poll.min-interval:1s}") Duration minPollInterval,
+                       @Value("${outbox.relay.poll.max-interval:30s}") Duration maxPollInterval,
+                       MeterRegistry meterRegistry,
+                       CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        this.outboxShardJpaRepository = outboxShardJpaRepository;
+        this.changeFeedSequenceJpaRepository = changeFeedSequenceJpaRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.relayExecutor = relayExecutor;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.minPollIntervalNanos = minPollInterval.toNanos();
+        this.maxPollIntervalNanos = maxPollInterval.toNanos();
+        this.pollIntervalNanos = minPollIntervalNanos;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CourseKafkaAdapter.KAFKA_PUBLISH_CIRCUIT_BREAKER);
+        this.workers = IntStream.range(0, workers)
+                .mapToObj(shard -> new Worker("shard " + shard, () -> publishOutboxEvents(shard)))
+                .toList();
+        this.sequencer = new Worker("change feed sequencer", this::sequenceChanges);
+        this.dwellTimer = Timer.builder("outbox.dwell")
+                .description("Time from outbox insert to relay send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("outbox.send")
+                .description("Time from relay send to broker acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Crée les lignes de verrou manquantes : shards ajoutés avec le nombre de workers
+     * et compteur du flux de changements
+     */
+    @PostConstruct
+    void registerLocks() {
+        for (int shard = 0; shard < workers.size(); shard++) {
+            int created = shard;
+            createIfMissing(() -> outboxShardJpaRepository.createIfMissing(created));
+        }
+        createIfMissing(changeFeedSequenceJpaRepository::createIfMissing);
+    }
+
+    private void createIfMissing(IntSupplier insert) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert.getAsInt());
+        } catch (DataIntegrityViolationException e) {
+            // Créée au même moment par une autre instance
+        }
+    }
+
+    /**
+     * Réveille le relais une fois la transaction d'écriture commitée
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxEventsRecorded(OutboxEventsRecordedEvent event) {
+        requestDispatch();
+    }
+
+    /**
+     * Poll de secours : le tick est fréquent mais ne touche la base qu'une fois
+     * l'intervalle adaptatif écoulé. L'intervalle est doublé à chaque déclenchement
+     * et ramené au minimum dès qu'un worker trouve des événements.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll.min-interval:1s}")
+    public void pollOutbox() {
+        if (System.nanoTime() - nextPollAt >= 0) {
+            pollIntervalNanos = Math.min(pollIntervalNanos * 2, maxPollIntervalNanos);
+            nextPollAt = System.nanoTime() + pollIntervalNanos;
+            requestDispatch();
+        }
+    }
+
+    /**
+     * Demande une passe de numérotation et une passe sur tous les shards
+     */
+    public void requestDispatch() {
+        sequencer.request();
+        workers.forEach(Worker::request);
+    }
+
+    /**
+     * Exécute une passe complète sur tous les shards et renvoie le nombre d'événements réservés
+     */
+    public int publishOutboxEvents() {
+        int claimed = 0;
+        for (int shard = 0; shard < workers.size(); shard++) {
+            claimed += publishOutboxEvents(shard);
+        }
+        return claimed;
+    }
+
+    /**
+     * Numérote par lots tous les événements commités qui ne le sont pas encore et renvoie leur nombre.
+     * Les lignes mises à jour ont pu être ignorées, verrouillées, par une réservation concurrente :
+     * une passe sur les shards est alors redemandée.
+     */
+    public int sequenceChanges() {
+        int total = 0;
+        int sequenced;
+        do {
+            sequenced = transactionTemplate.execute(status -> sequenceBatch());
+            total += sequenced;
+        } while (sequenced == batchSize);
+        if (total > 0) {
+            workers.forEach(Worker::request);
+        }
+        return total;
+    }
+
+    /**
+     * Numérote un lot à la suite du compteur, verrouillé jusqu'au commit. Les événements sont lus
+     * après la prise du verrou : tous les numéros attribués avant le sont déjà visibles.
+     */
+    private int sequenceBatch() {
+        long last = changeFeedSequenceJpaRepository.lock();
+        List<UUID> ids = outboxJpaRepository.findUnsequenced(Limit.of(batchSize));
+        for (UUID id : ids) {
+            outboxJpaRepository.assignSequence(id, ++last);
+        }
+        if (!ids.isEmpty()) {
+            changeFeedSequenceJpaRepository.advance(last);
+        }
+        return ids.size();
+    }
+
+    /**
+     * Exécute une passe complète sur un shard et renvoie le nombre d'événements réservés
+     */
+    int publishOutboxEvents(int shard) {
+        int claimed = 0;
+        int total = 0;
+        BatchResult result;
+        do {
+            result = transactionTemplate.execute(status -> publishBatch(shard));
+            claimed += result.claimed();
+            total += result.acknowledged();
+            // Un lot incomplet ou en échec arrête la passe : les événements restants
+            // seront repris au prochain déclenchement plutôt qu'en boucle serrée
+        } while (result.claimed() == batchSize && result.failed() == 0);
+
+        if (total > 0) {
+            logger.debug("Outbox relay published {} events from shard {}", total, shard);
+        }
+        return claimed;
+    }
+
+    /**
+     * Publie un lot réservé du shard, clé par clé, puis marque les événements acquittés
+     * comme envoyés en un seul UPDATE.
+     * Les verrous du shard et du lot sont conservés jusqu'au commit. Chaque lot compte pour un
+     * appel du disjoncteur {@code kafkaPublish}, en échec dès qu'un envoi n'est pas acquitté.
+     */
+    BatchResult publishBatch(int shard) {
+        // Circuit ouvert : ni réservation ni envoi, le poll de secours retentera plus tard
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return new BatchResult(0, 0, 0);
+        }
+        long start = System.nanoTime();
+        BatchResult result;
+        try {
+            result = sendBatch(shard);
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        }
+        if (result.claimed() == 0) {
+            circuitBreaker.releasePermission();
+        } else if (result.failed() > 0) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS,
+                    new IllegalStateException(result.failed() + " outbox events not acknowledged"));
+        } else {
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    private BatchResult sendBatch(int shard) {
+        if (outboxShardJpaRepository.tryLock(shard).isEmpty()) {
+            // Shard en cours de traitement par une autre instance
+            return new BatchResult(0, 0, 0);
+        }
+        List<OutboxEvent> events = outboxJpaRepository.claimUnsentBatch(shard, workers.size(), batchSize);
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        Map<UUID, Duration> acknowledged = sendInKeyOrder(events);
+        if (!acknowledged.isEmpty()) {
+            outboxJpaRepository.markAsSent(new ArrayList<>(acknowledged.keySet()));
+            // Une seule mesure par événement, celle de l'envoi acquitté, quel que soit le nombre de tentatives
+            acknowledged.values().forEach(dwellTimer::record);
+        }
+        return new BatchResult(events.size(), acknowledged.size(), events.size() - acknowledged.size());
+    }
+
+    /**
+     * Les clés sont publiées en parallèle, mais les événements d'une même clé strictement l'un après
+     * l'autre : chacun n'est envoyé qu'une fois le précédent acquitté. Au premier échec, les événements
+     * suivants de la clé ne partent pas ; ils seront republiés derrière l'événement en échec.
+     * Passé {@code outbox.relay.send-timeout}, plus aucun envoi n'est lancé ; un envoi déjà en vol
+     * et acquitté trop tard est republié, puis écarté par les consommateurs.
+     * Renvoie les événements acquittés, dans l'ordre du lot, avec leur temps d'attente dans l'outbox.
+     */
+    private Map<UUID, Duration> sendInKeyOrder(List<OutboxEvent> events) {
+        Map<String, List<OutboxEvent>> eventsByKey = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            eventsByKey.computeIfAbsent(event.getAggregateKey(), key -> new ArrayList<>()).add(event);
+        }
+        Map<UUID, Duration> acknowledged = new ConcurrentHashMap<>();
+        AtomicBoolean expired = new AtomicBoolean();
+        List<CompletableFuture<Void>> chains = new ArrayList<>(eventsByKey.size());
+        for (List<OutboxEvent> keyEvents : eventsByKey.values()) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (OutboxEvent event : keyEvents) {
+                chain = chain.thenCompose(previous -> send(event, expired))
+                        .thenAccept(dwell -> acknowledged.put(event.getId(), dwell));
+            }
+            // L'échec a déjà été journalisé par l'envoi concerné
+            chains.add(chain.exceptionally(e -> null));
+        }
+
+        try {
+            CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Outbox batch not fully acknowledged within {}, remaining events will be retried", sendTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Impossible : chaque chaîne absorbe son échec
+        } finally {
+            expired.set(true);
+        }
+        Map<UUID, Duration> inBatchOrder = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            Duration dwell = acknowledged.get(event.getId());
+            if (dwell != null) {
+                inBatchOrder.put(event.getId(), dwell);
+            }
+        }
+        return inBatchOrder;
+    }
+
+    /**
+     * Renvoie, une fois l'envoi acquitté, le temps passé par l'événement dans l'outbox
+     */
+    private CompletableFuture<Duration> send(OutboxEvent event, AtomicBoolean expired) {
+        if (expired.get()) {
+            return CompletableFuture.failedFuture(new TimeoutException("Outbox batch send timeout elapsed"));
+        }
+        Instant sentAt = Instant.now();
+        Instant createdAt = event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> send;
+        try {
+            send = kafkaTemplate.send(toRecord(event, createdAt, sentAt));
+        } catch (RuntimeException e) {
+            send = CompletableFuture.failedFuture(e);
+        }
+        return send.whenComplete((result, error) -> {
+            if (error == null) {
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } else {
+                logger.warn("Outbox event {} not acknowledged, it and the following events of key {} will be retried",
+                        event.getId(), event.getAggregateKey(), error);
+            }
+        }).thenApply(result -> Duration.between(createdAt, sentAt));
+    }
+
+    /**
+     * La charge utile est relayée telle qu'encodée à l'écriture, avec son type de contenu
+     * et l'identifiant de la ligne d'outbox, qui permet aux consommateurs d'écarter les republications.
+     * Les horodatages d'écriture et d'envoi permettent de mesurer la latence de bout en bout.
+     */
+    private static ProducerRecord<String, byte[]> toRecord(OutboxEvent event, Instant createdAt, Instant sentAt) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(event.getTopic(), event.getAggregateKey(), event.getPayload());
+        record.headers().add(EventCodec.CONTENT_TYPE_HEADER, event.getContentType().getBytes(StandardCharsets.UTF_8));
+        EventHeaders.setEventId(record, event.getId());
+        EventHeaders.setTimestamps(record, createdAt, sentAt);
+        return record;
+    }
+
+    record BatchResult(int claimed, int acknowledged, int failed) {
+    }
+
+    /**
+     * Worker d'un shard ou de la numérotation : les demandes reçues pendant une passe en cours
+     * sont regroupées en une seule passe supplémentaire
+     */
+    private final class Worker {
+
+        private final String name;
+        private final IntSupplier pass;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean requested = new AtomicBoolean();
+
+        private Worker(String name, IntSupplier pass) {
+            this.name = name;
+            this.pass = pass;
+        }
+
+        private void request() {
+            requested.set(true);
+            if (running.compareAndSet(false, true)) {
+                relayExecutor.execute(this::dispatchLoop);
+            }
+        }
+
+        private void dispatchLoop() {
+            try {
+                while (requested.getAndSet(false)) {
+                    if (pass.getAsInt() > 0) {
+                        pollIntervalNanos = minPollIntervalNanos;
+                        nextPollAt = System.nanoTime() + minPollIntervalNanos;
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Outbox relay pass failed on {}", name, e);
+                nextPollAt = System.nanoTime() + minPollIntervalNanos;
+            } finally {
+                running.set(false);
+                if (requested.get() && running.compareAndSet(false, true)) {
+                    relayExecutor.execute(this::dispatchLoop);
+                }
+            }
+        }
+    }
+}
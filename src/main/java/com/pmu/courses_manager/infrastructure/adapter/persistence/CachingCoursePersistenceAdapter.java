@@ -0,0 +1,146 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Décorateur de {@link CourseJpaAdapter} servant les lectures par identifiant depuis {@link CourseCache}.
+ * Toute écriture évince la course concernée ; les listes paginées ne sont pas mises en cache.
+ * <p>
+ * En cas d'absence, les lectures concurrentes d'une même course partagent un seul chargement.
+ * Le regroupement se fait par (course, génération) : un lecteur arrivé après une écriture
+ * ne rejoint jamais un chargement commencé avant elle.
+ */
+@Primary
+@Component
+public class CachingCoursePersistenceAdapter implements CoursePersistencePort {
+
+    private final CoursePersistencePort delegate;
+    private final CourseCache courseCache;
+    private final SingleFlight<Flight, Optional<Course>> courseLoads;
+    private final SingleFlight<Flight, Optional<CourseSummary>> summaryLoads;
+
+    public CachingCoursePersistenceAdapter(@Qualifier("courseJpaAdapter") CoursePersistencePort delegate,
+                                           CourseCache courseCache,
+                                           MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.courseCache = courseCache;
+        this.courseLoads = new SingleFlight<>(CourseCache.COURSES, meterRegistry);
+        this.summaryLoads = new SingleFlight<>(CourseCache.SUMMARIES, meterRegistry);
+    }
+
+    @Override
+    public Course save(Course course) {
+        if (course.getId() != null) {
+            courseCache.evict(course.getId());
+        }
+        Course saved = delegate.save(course);
+        courseCache.evict(saved.getId());
+        return saved;
+    }
+
+    /**
+     * Les courses créées n'ont encore aucune entrée dans le cache : rien à évincer
+     */
+    @Override
+    public List<Course> saveAll(List<Course> courses) {
+        return delegate.saveAll(courses);
+    }
+
+    @Override
+    public void delete(CourseId courseId) {
+        courseCache.evict(courseId);
+        delegate.delete(courseId);
+    }
+
+    @Override
+    public Optional<Course> findById(CourseId courseId) {
+        // Une transaction en écriture modifie la course chargée : elle doit partir de la base
+        if (!courseCache.canPopulate()) {
+            return delegate.findById(courseId);
+        }
+        Optional<Course> cached = courseCache.getCourse(courseId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = courseCache.generation(courseId);
+        Optional<Course> loaded = courseLoads.load(new Flight(courseId.getValue(), generation), () -> {
+            Optional<Course> course = delegate.findById(courseId);
+            course.ifPresent(c -> courseCache.putCourse(c, generation));
+            return course;
+        });
+        // Le résultat est partagé entre les lecteurs regroupés : chacun reçoit sa copie
+        return loaded.map(CourseCache::copy);
+    }
+
+    @Override
+    public Optional<Course> findLatestById(CourseId courseId) {
+        return delegate.findLatestById(courseId);
+    }
+
+    @Override
+    public boolean existsById(CourseId courseId) {
+        if (!courseCache.canPopulate()) {
+            return delegate.existsById(courseId);
+        }
+        return courseCache.contains(courseId) || delegate.existsById(courseId);
+    }
+
+    @Override
+    public Optional<CourseSummary> findSummaryById(CourseId courseId) {
+        Optional<CourseSummary> cached = courseCache.getSummary(courseId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        if (!courseCache.canPopulate()) {
+            return delegate.findSummaryById(courseId);
+        }
+        long generation = courseCache.generation(courseId);
+        return summaryLoads.load(new Flight(courseId.getValue(), generation), () -> {
+            Optional<CourseSummary> summary = delegate.findSummaryById(courseId);
+            summary.ifPresent(s -> courseCache.putSummary(s, generation));
+            return summary;
+        });
+    }
+
+    /**
+     * Servie par le résumé mis en cache : une requête conditionnelle répétée ne touche pas la base
+     */
+    @Override
+    public Optional<Long> findVersionById(CourseId courseId) {
+        if (!courseCache.canPopulate()) {
+            return delegate.findVersionById(courseId);
+        }
+        return findSummaryById(courseId).map(CourseSummary::version);
+    }
+
+    @Override
+    public boolean existsByDateAndNumero(LocalDate date, Integer numero) {
+        return delegate.existsByDateAndNumero(date, numero);
+    }
+
+    @Override
+    public List<CourseSummary> findByDatesAndNumeros(Collection<LocalDate> dates, Collection<Integer> numeros) {
+        return delegate.findByDatesAndNumeros(dates, numeros);
+    }
+
+    @Override
+    public List<CourseSummary> findPage(CourseCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    private record Flight(Long courseId, long generation) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import com.pmu.courses_manager.domain.port.out.ParticipantPersistencePort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Décorateur de {@link ParticipantJpaAdapter} : un ajout de participant modifie la course
+ * mise en cache, qui est donc évincée
+ */
+@Primary
+@Component
+public class CachingParticipantPersistenceAdapter implements ParticipantPersistencePort {
+
+    private final ParticipantPersistencePort delegate;
+    private final CourseCache courseCache;
+
+    public CachingParticipantPersistenceAdapter(@Qualifier("participantJpaAdapter") ParticipantPersistencePort delegate,
+                                                CourseCache courseCache) {
+        this.delegate = delegate;
+        this.courseCache = courseCache;
+    }
+
+    @Override
+    public Participant save(CourseId courseId, Participant participant) {
+        courseCache.evict(courseId);
+        return delegate.save(courseId, participant);
+    }
+
+    @Override
+    public List<Participant> saveAll(CourseId courseId, List<Participant> participants) {
+        courseCache.evict(courseId);
+        return delegate.saveAll(courseId, participants);
+    }
+
+    @Override
+    public Optional<Participant> findById(ParticipantId participantId) {
+        return delegate.findById(participantId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseChange;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import com.pmu.courses_manager.domain.port.out.ChangeFeedPort;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseCreatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseDeletedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseUpdatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.ParticipantAddedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Flux de changements lu dans la table outbox, qui conserve chaque événement de course
+ * pendant la rétention ({@code outbox.retention.period}) avec son numéro d'ordre.
+ * <p>
+ * Les numéros sont attribués par le relais après le commit, sous le verrou d'un compteur unique :
+ * un numéro n'est visible qu'une fois tous les numéros inférieurs commités. Un événement pas
+ * encore numéroté n'est pas servi, mais il le sera après tous ceux déjà lus par un client.
+ */
+@Repository
+public class ChangeFeedJpaAdapter implements ChangeFeedPort {
+
+    // Événements exposés aux clients ; les invalidations de cache restent internes
+    private static final Map<String, Class<?>> EVENT_TYPES = Map.of(
+            "course-created", CourseCreatedEvent.class,
+            "course-updated", CourseUpdatedEvent.class,
+            "course-deleted", CourseDeletedEvent.class,
+            "participant-added", ParticipantAddedEvent.class);
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final EventCodecs eventCodecs;
+
+    public ChangeFeedJpaAdapter(OutboxJpaRepository outboxJpaRepository, EventCodecs eventCodecs) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        this.eventCodecs = eventCodecs;
+    }
+
+    @Override
+    public List<CourseChange> findAfter(long sequence, int limit) {
+        return outboxJpaRepository.findAfter(sequence, EVENT_TYPES.keySet(), Limit.of(limit)).stream()
+                .map(this::toChange)
+                .toList();
+    }
+
+    @Override
+    public OptionalLong findOldestSequence() {
+        Long oldest = outboxJpaRepository.findOldestSequence();
+        return oldest == null ? OptionalLong.empty() : OptionalLong.of(oldest);
+    }
+
+    /**
+     * L'identifiant de course est lu dans le contenu : les lignes antérieures à la clé d'agrégat n'en ont pas
+     */
+    private CourseChange toChange(OutboxEvent event) {
+        Object data = eventCodecs.forContentType(event.getContentType())
+                .decode(event.getPayload(), EVENT_TYPES.get(event.getTopic()));
+        return switch (data) {
+            case CourseCreatedEvent created -> change(event, created.courseId(),
+                    Course.reconstitute(new CourseId(created.courseId()), created.nom(), created.date(), created.numero()), null);
+            case CourseUpdatedEvent updated -> change(event, updated.courseId(),
+                    Course.reconstitute(new CourseId(updated.courseId()), updated.nom(), updated.date(), updated.numero()), null);
+            case ParticipantAddedEvent added -> change(event, added.getCourseId(), null,
+                    Participant.reconstitute(new ParticipantId(added.getParticipantId()), added.getNom(), added.getDossard()));
+            case CourseDeletedEvent deleted -> change(event, deleted.courseId(), null, null);
+            default -> throw new IllegalStateException("Unexpected change type " + event.getTopic());
+        };
+    }
+
+    private static CourseChange change(OutboxEvent event, Long courseId, Course course, Participant participant) {
+        return new CourseChange(event.getSequence(), event.getTopic(), new CourseId(courseId), event.getCreatedAt(), course, participant);
+    }
+}
@@ -0,0 +1,30 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.ChangeFeedSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChangeFeedSequenceJpaRepository extends JpaRepository<ChangeFeedSequence, Integer> {
+
+    /**
+     * Verrouille le compteur jusqu'à la fin de la transaction et renvoie le dernier numéro attribué.
+     * Attend la fin de la numérotation en cours sur une autre instance.
+     */
+    @Query(value = "SELECT last_sequence FROM change_feed_sequence WHERE id = 0 FOR UPDATE", nativeQuery = true)
+    long lock();
+
+    @Modifying
+    @Query("UPDATE ChangeFeedSequence s SET s.lastSequence = :lastSequence WHERE s.id = 0")
+    int advance(@Param("lastSequence") long lastSequence);
+
+    /**
+     * Crée le compteur s'il n'existe pas encore, à partir du plus grand numéro déjà attribué
+     */
+    @Modifying
+    @Query(value = "INSERT INTO change_feed_sequence (id, last_sequence) SELECT 0, (SELECT COALESCE(MAX(seq), 0) FROM outbox) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM change_feed_sequence WHERE id = 0)",
+            nativeQuery = true)
+    int createIfMissing();
+}
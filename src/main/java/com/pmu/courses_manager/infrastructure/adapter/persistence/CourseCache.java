@@ -0,0 +1,159 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pmu.courses_manager.application.api.CourseEvictedEvent;
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.model.Participant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache local des courses et de leurs résumés, borné en taille et en durée de vie.
+ * <p>
+ * Les courses sont copiées à l'entrée et à la sortie : l'agrégat étant mutable, un appelant
+ * ne peut jamais modifier l'instance partagée. Chaque écriture incrémente un compteur de
+ * génération par clé (réparti sur des bandes) : un chargement commencé avant l'écriture
+ * ne peut pas republier une valeur périmée après l'éviction.
+ * Chaque éviction est publiée en {@link CourseEvictedEvent} pour les caches dérivés.
+ */
+@Component
+public class CourseCache {
+
+    public static final String COURSES = "courses";
+    public static final String SUMMARIES = "course-summaries";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, Course> courses;
+    private final Cache<Long, CourseSummary> summaries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CourseCache(@Value("${course-cache.maximum-size:10000}") long maximumSize,
+                       @Value("${course-cache.ttl:10m}") Duration ttl,
+                       MeterRegistry meterRegistry,
+                       ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.courses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, courses, COURSES);
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, SUMMARIES);
+    }
+
+    /**
+     * Génération courante de la clé, à relever avant de lire la base
+     */
+    public long generation(CourseId courseId) {
+        return generations.get(stripe(courseId));
+    }
+
+    public Optional<Course> getCourse(CourseId courseId) {
+        return Optional.ofNullable(courses.getIfPresent(courseId.getValue())).map(CourseCache::copy);
+    }
+
+    public Optional<CourseSummary> getSummary(CourseId courseId) {
+        return Optional.ofNullable(summaries.getIfPresent(courseId.getValue()));
+    }
+
+    public boolean contains(CourseId courseId) {
+        return summaries.getIfPresent(courseId.getValue()) != null
+                || courses.getIfPresent(courseId.getValue()) != null;
+    }
+
+    public void putCourse(Course course, long generation) {
+        CourseId courseId = course.getId();
+        courses.put(courseId.getValue(), copy(course));
+        // Une écriture concurrente a pu évincer la clé entre la lecture et l'insertion
+        if (generation(courseId) != generation) {
+            courses.invalidate(courseId.getValue());
+        }
+    }
+
+    public void putSummary(CourseSummary summary, long generation) {
+        CourseId courseId = summary.id();
+        summaries.put(courseId.getValue(), summary);
+        if (generation(courseId) != generation) {
+            summaries.invalidate(courseId.getValue());
+        }
+    }
+
+    /**
+     * Évince la course immédiatement puis, si une transaction est en cours, une seconde fois
+     * à sa terminaison : un lecteur ayant rechargé l'ancienne valeur entre-temps est ainsi écarté
+     */
+    public void evict(CourseId courseId) {
+        evictNow(courseId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(courseId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Vide le cache, par exemple quand des invalidations venant d'autres instances ont pu être manquées
+     */
+    public void evictAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        courses.invalidateAll();
+        summaries.invalidateAll();
+        eventPublisher.publishEvent(CourseEvictedEvent.all());
+    }
+
+    /**
+     * Une transaction en écriture peut lire ses propres modifications non validées :
+     * on ne peuple le cache qu'en dehors de celles-ci
+     */
+    public boolean canPopulate() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void evictNow(CourseId courseId) {
+        generations.incrementAndGet(stripe(courseId));
+        courses.invalidate(courseId.getValue());
+        summaries.invalidate(courseId.getValue());
+        eventPublisher.publishEvent(new CourseEvictedEvent(courseId));
+    }
+
+    private static int stripe(CourseId courseId) {
+        return Long.hashCode(courseId.getValue()) & (GENERATION_STRIPES - 1);
+    }
+
+    static Course copy(Course course) {
+        return Course.reconstitute(
+                course.getId(),
+                course.getNom(),
+                course.getDate(),
+                course.getNumero(),
+                course.getVersion(),
+                course.getParticipants().stream()
+                        .map(p -> Participant.reconstitute(p.getId(), p.getNom(), p.getDossard()))
+                        .toList());
+    }
+}
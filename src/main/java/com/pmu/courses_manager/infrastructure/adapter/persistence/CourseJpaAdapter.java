@@ -4,11 +4,23 @@ package com.pmu.courses_manager.infrastructure.adapter.persistence;
 
 import com.pmu.courses_manager.infrastructure.adapter.persistence.mapper.CourseMapper;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseJpaEntity;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection;
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
 import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -19,24 +31,110 @@ import java.util.stream.Collectors;
 @Repository
 public class CourseJpaAdapter implements CoursePersistencePort {
 
+    private static final String INSERT_COURSE =
+            "INSERT INTO courses (nom, date_course, numero, version) VALUES (?, ?, ?, 0)";
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (nom, dossard, course_id) VALUES (?, ?, ?)";
+
     private final CourseJpaRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final DossardCounterJpaRepository dossardCounterRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public CourseJpaAdapter(CourseJpaRepository courseRepository, CourseMapper courseMapper) {
+    public CourseJpaAdapter(CourseJpaRepository courseRepository, CourseMapper courseMapper, DossardCounterJpaRepository dossardCounterRepository, JdbcTemplate jdbcTemplate) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.dossardCounterRepository = dossardCounterRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    /**
+     * Écrite immédiatement : la course renvoyée porte la version incrémentée, publiée avec les événements
+     */
     @Override
     public Course save(Course course) {
         CourseJpaEntity courseEntity = courseMapper.toEntity(course);
-        CourseJpaEntity savedEntity = courseRepository.save(courseEntity);
+        CourseJpaEntity savedEntity = courseRepository.saveAndFlush(courseEntity);
         return courseMapper.toDomain(savedEntity);
     }
 
+    /**
+     * Deux lots JDBC, l'un pour les courses et l'autre pour tous leurs participants : les identifiants
+     * générés (IDENTITY) empêchent Hibernate de regrouper les insertions. Les compteurs de dossards
+     * ne sont pas créés ici : ils s'initialisent au premier ajout à partir du plus grand dossard.
+     */
+    @Override
+    public List<Course> saveAll(List<Course> courses) {
+        KeyHolder courseKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_COURSE, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Course course = courses.get(i);
+                        ps.setString(1, course.getNom());
+                        ps.setObject(2, course.getDate());
+                        ps.setInt(3, course.getNumero());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return courses.size();
+                    }
+                },
+                courseKeys);
+
+        List<Long> courseIds = courseKeys.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+        List<Long> participantCourseIds = new ArrayList<>();
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < courses.size(); i++) {
+            for (Participant participant : sortedParticipants(courses.get(i))) {
+                participantCourseIds.add(courseIds.get(i));
+                participants.add(participant);
+            }
+        }
+        KeyHolder participantKeys = new GeneratedKeyHolder();
+        if (!participants.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_PARTICIPANT, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Participant participant = participants.get(i);
+                            ps.setString(1, participant.getNom());
+                            ps.setInt(2, participant.getDossard());
+                            ps.setLong(3, participantCourseIds.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return participants.size();
+                        }
+                    },
+                    participantKeys);
+        }
+
+        Iterator<Map<String, Object>> participantIds = participantKeys.getKeyList().iterator();
+        List<Course> savedCourses = new ArrayList<>(courses.size());
+        for (int i = 0; i < courses.size(); i++) {
+            Course course = courses.get(i);
+            List<Participant> savedParticipants = new ArrayList<>();
+            for (Participant participant : sortedParticipants(course)) {
+                Long id = ((Number) participantIds.next().get("id")).longValue();
+                savedParticipants.add(Participant.reconstitute(new ParticipantId(id), participant.getNom(), participant.getDossard()));
+            }
+            savedCourses.add(Course.reconstitute(new CourseId(courseIds.get(i)), course.getNom(), course.getDate(),
+                    course.getNumero(), 0L, savedParticipants));
+        }
+        return savedCourses;
+    }
+
     @Override
     public void delete(CourseId courseId) {
         courseRepository.deleteById(courseId.getValue());
+        dossardCounterRepository.deleteById(courseId.getValue());
     }
 
     @Override
@@ -45,16 +143,55 @@ public class CourseJpaAdapter implements CoursePersistencePort {
                 .map(courseMapper::toDomain);
     }
 
+    /**
+     * Aucun cache à ce niveau : identique à {@link #findById(CourseId)}
+     */
+    @Override
+    public Optional<Course> findLatestById(CourseId courseId) {
+        return findById(courseId);
+    }
+
+    @Override
+    public boolean existsById(CourseId courseId) {
+        return courseRepository.existsById(courseId.getValue());
+    }
+
+    @Override
+    public Optional<CourseSummary> findSummaryById(CourseId courseId) {
+        return courseRepository.findSummaryById(courseId.getValue())
+                .map(courseMapper::toSummary);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(CourseId courseId) {
+        return courseRepository.findVersionById(courseId.getValue());
+    }
+
     @Override
     public boolean existsByDateAndNumero(LocalDate date, Integer numero) {
         return courseRepository.existsByDateAndNumero(date, numero);
     }
 
     @Override
-    public List<Course> findAll() {
-        return courseRepository.findAll().stream()
-                .map(courseMapper::toDomain)
+    public List<CourseSummary> findByDatesAndNumeros(Collection<LocalDate> dates, Collection<Integer> numeros) {
+        return courseRepository.findByDatesAndNumeros(dates, numeros).stream()
+                .map(courseMapper::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<CourseSummary> findPage(CourseCursor after, int limit) {
+        List<CourseSummaryProjection> rows = after == null
+                ? courseRepository.findFirstPage(Limit.of(limit))
+                : courseRepository.findPageAfter(after.date(), after.numero(), after.id(), Limit.of(limit));
+        return rows.stream()
+                .map(courseMapper::toSummary)
                 .collect(Collectors.toList());
     }
-}
 
+    private static List<Participant> sortedParticipants(Course course) {
+        return course.getParticipants().stream()
+                .sorted(Comparator.comparing(Participant::getDossard))
+                .toList();
+    }
+}
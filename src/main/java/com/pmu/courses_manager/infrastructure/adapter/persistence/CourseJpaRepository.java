@@ -1,11 +1,16 @@
 package com.pmu.courses_manager.infrastructure.adapter.persistence;
 
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseJpaEntity;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +22,40 @@ interface CourseJpaRepository extends JpaRepository<CourseJpaEntity, Long> {
     Optional<CourseJpaEntity> findByIdWithParticipants(@Param("id") Long id);
 
     boolean existsByDateAndNumero(LocalDate date, Integer numero);
+
+    @Query("SELECT c.version FROM CourseJpaEntity c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Incrémente la version sans charger la course : les participants sont insérés hors de l'agrégat
+     */
+    @Modifying
+    @Query("UPDATE CourseJpaEntity c SET c.version = c.version + 1 WHERE c.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Query("SELECT new com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection(" +
+            "c.id, c.nom, c.date, c.numero, c.version) FROM CourseJpaEntity c WHERE c.id = :id")
+    Optional<CourseSummaryProjection> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT new com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection(" +
+            "c.id, c.nom, c.date, c.numero, c.version) FROM CourseJpaEntity c " +
+            "WHERE c.date IN :dates AND c.numero IN :numeros")
+    List<CourseSummaryProjection> findByDatesAndNumeros(@Param("dates") Collection<LocalDate> dates,
+                                                        @Param("numeros") Collection<Integer> numeros);
+
+    @Query("SELECT new com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection(" +
+            "c.id, c.nom, c.date, c.numero, c.version) FROM CourseJpaEntity c ORDER BY c.date, c.numero, c.id")
+    List<CourseSummaryProjection> findFirstPage(Limit limit);
+
+    @Query("SELECT new com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection(" +
+            "c.id, c.nom, c.date, c.numero, c.version) FROM CourseJpaEntity c " +
+            "WHERE c.date > :date " +
+            "OR (c.date = :date AND (c.numero > :numero OR (c.numero = :numero AND c.id > :id))) " +
+            "ORDER BY c.date, c.numero, c.id")
+    List<CourseSummaryProjection> findPageAfter(@Param("date") LocalDate date,
+                                        @Param("numero") Integer numero,
+                                        @Param("id") Long id,
+                                        Limit limit);
 }
 
 
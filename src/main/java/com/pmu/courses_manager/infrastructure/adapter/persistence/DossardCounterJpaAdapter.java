@@ -0,0 +1,35 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.port.out.DossardAllocatorPort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adaptateur d'attribution des dossards basé sur une ligne compteur par course.
+ * Le coût d'une réservation est constant, quel que soit le nombre de participants.
+ */
+@Repository
+public class DossardCounterJpaAdapter implements DossardAllocatorPort {
+
+    private final DossardCounterJpaRepository dossardCounterRepository;
+
+    public DossardCounterJpaAdapter(DossardCounterJpaRepository dossardCounterRepository) {
+        this.dossardCounterRepository = dossardCounterRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int allocate(CourseId courseId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Le nombre de dossards à réserver doit être positif");
+        }
+        Long id = courseId.getValue();
+        if (dossardCounterRepository.increment(id, count) == 0) {
+            dossardCounterRepository.initialize(id);
+            dossardCounterRepository.increment(id, count);
+        }
+        return dossardCounterRepository.findLastDossard(id) - count + 1;
+    }
+}
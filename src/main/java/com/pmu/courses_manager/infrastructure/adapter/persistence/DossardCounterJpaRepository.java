@@ -0,0 +1,34 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.DossardCounterJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository JPA pour les compteurs de dossards
+ */
+interface DossardCounterJpaRepository extends JpaRepository<DossardCounterJpaEntity, Long> {
+
+    /**
+     * Incrémente le compteur ; le verrou de ligne posé par l'UPDATE sérialise
+     * les inscriptions concurrentes d'une même course jusqu'au commit
+     */
+    @Modifying
+    @Query("UPDATE DossardCounterJpaEntity c SET c.lastDossard = c.lastDossard + :count WHERE c.courseId = :courseId")
+    int increment(@Param("courseId") Long courseId, @Param("count") int count);
+
+    @Query("SELECT c.lastDossard FROM DossardCounterJpaEntity c WHERE c.courseId = :courseId")
+    int findLastDossard(@Param("courseId") Long courseId);
+
+    /**
+     * Crée le compteur d'une course à partir du plus grand dossard existant.
+     * Sans effet si un autre nœud l'a créé entre-temps.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dossard_counters (course_id, last_dossard) " +
+            "SELECT :courseId, COALESCE(MAX(p.dossard), 0) FROM participants p WHERE p.course_id = :courseId " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    void initialize(@Param("courseId") Long courseId);
+}
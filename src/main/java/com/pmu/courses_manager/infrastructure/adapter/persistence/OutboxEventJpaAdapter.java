@@ -1,69 +1,168 @@
 package com.pmu.courses_manager.infrastructure.adapter.persistence;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pmu.courses_manager.domain.model.Course;
 import com.pmu.courses_manager.domain.model.CourseId;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
 import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseCreatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseDeletedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseInvalidatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseUpdatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
 import com.pmu.courses_manager.infrastructure.adapter.messaging.ParticipantAddedEvent;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public class OutboxEventJpaAdapter implements OutboxEventPersistencePort{
+
+    private static final String INSERT_OUTBOX_EVENT =
+            "INSERT INTO outbox (id, topic, aggregate_key, key_hash, payload, content_type, created_at, sent) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, false)";
+    private static final String SELECT_COURSE_STATE =
+            "SELECT nom, date_course, numero, version FROM courses WHERE id = ?";
+
     private final OutboxJpaRepository outboxJpaRepository;
-    private final ObjectMapper objectMapper;
+    private final EventCodecs eventCodecs;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OutboxEventJpaAdapter(OutboxJpaRepository outboxJpaRepository, ObjectMapper objectMapper) {
+    public OutboxEventJpaAdapter(OutboxJpaRepository outboxJpaRepository, EventCodecs eventCodecs, JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
         this.outboxJpaRepository = outboxJpaRepository;
-        this.objectMapper = objectMapper;
+        this.eventCodecs = eventCodecs;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
     @Override
     public OutboxEvent saveAddedParticipantEvent(CourseId courseId, Participant participant) {
-        ParticipantAddedEvent event = new ParticipantAddedEvent(
-                courseId.getValue(),
-                participant.getId().getValue(),
-                participant.getNom(),
-                participant.getDossard());
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outbox = new OutboxEvent();
-            outbox.setId(UUID.randomUUID());
-            outbox.setTopic("participant-added");
-            outbox.setPayload(payload);
-            outbox.setCreatedAt(LocalDateTime.now());
-            return outboxJpaRepository.save(outbox);
-
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        OutboxEvent outbox = outboxJpaRepository.save(toAddedParticipantOutbox(courseId, participant));
+        eventPublisher.publishEvent(new OutboxEventsRecordedEvent(1));
+        return outbox;
+    }
 
+    @Override
+    public List<OutboxEvent> saveAddedParticipantEvents(CourseId courseId, List<Participant> participants) {
+        List<OutboxEvent> events = participants.stream()
+                .map(participant -> toAddedParticipantOutbox(courseId, participant))
+                .toList();
+        return insertAll(events);
     }
+
     @Override
     public OutboxEvent saveCreatedCourseEvent(Course course) {
+        OutboxEvent outbox = outboxJpaRepository.save(toCreatedCourseOutbox(course));
+        eventPublisher.publishEvent(new OutboxEventsRecordedEvent(1));
+        return outbox;
+    }
+
+    @Override
+    public List<OutboxEvent> saveCreatedCourseEvents(List<Course> courses) {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (Course course : courses) {
+            events.add(toCreatedCourseOutbox(course));
+            course.getParticipants().stream()
+                    .sorted(Comparator.comparing(Participant::getDossard))
+                    .forEach(participant -> events.add(toAddedParticipantOutbox(course.getId(), participant)));
+        }
+        return insertAll(events);
+    }
+
+    @Override
+    public OutboxEvent saveUpdatedCourseEvent(Course course) {
+        CourseUpdatedEvent event = new CourseUpdatedEvent(
+                course.getId().getValue(),
+                course.getNom(),
+                course.getDate(),
+                course.getNumero(),
+                course.getVersion());
+        OutboxEvent outbox = outboxJpaRepository.save(toOutbox("course-updated", course.getId(), event));
+        eventPublisher.publishEvent(new OutboxEventsRecordedEvent(1));
+        return outbox;
+    }
+
+    @Override
+    public OutboxEvent saveDeletedCourseEvent(CourseId courseId) {
+        CourseDeletedEvent event = new CourseDeletedEvent(courseId.getValue());
+        OutboxEvent outbox = outboxJpaRepository.save(toOutbox("course-deleted", courseId, event));
+        eventPublisher.publishEvent(new OutboxEventsRecordedEvent(1));
+        return outbox;
+    }
+
+    /**
+     * L'état porté est relu dans la transaction, après l'écriture qui a incrémenté la version
+     */
+    @Override
+    public OutboxEvent saveCourseInvalidatedEvent(CourseId courseId) {
+        CourseInvalidatedEvent event = jdbcTemplate.query(SELECT_COURSE_STATE,
+                        (rs, rowNum) -> new CourseInvalidatedEvent(courseId.getValue(), rs.getString("nom"),
+                                rs.getObject("date_course", LocalDate.class), rs.getInt("numero"), rs.getLong("version")),
+                        courseId.getValue())
+                .stream()
+                .findFirst()
+                .orElseGet(() -> new CourseInvalidatedEvent(courseId.getValue()));
+        OutboxEvent outbox = outboxJpaRepository.save(toOutbox("course-invalidations", courseId, event));
+        eventPublisher.publishEvent(new OutboxEventsRecordedEvent(1));
+        return outbox;
+    }
+
+    /**
+     * Insère les événements en un seul lot JDBC, dans l'ordre donné
+     */
+    private List<OutboxEvent> insertAll(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_EVENT, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.getId());
+            ps.setString(2, event.getTopic());
+            ps.setString(3, event.getAggregateKey());
+            ps.setInt(4, event.getKeyHash());
+            ps.setBytes(5, event.getPayload());
+            ps.setString(6, event.getContentType());
+            ps.setTimestamp(7, Timestamp.valueOf(event.getCreatedAt()));
+        });
+        eventPublisher.publishEvent(new OutboxEventsRecordedEvent(events.size()));
+        return events;
+    }
+
+    private OutboxEvent toCreatedCourseOutbox(Course course) {
         CourseCreatedEvent event = new CourseCreatedEvent(
                 course.getId().getValue(),
                 course.getNom(),
                 course.getDate(),
-                course.getNumero());
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outbox = new OutboxEvent();
-            outbox.setId(UUID.randomUUID());
-            outbox.setTopic("course-created");
-            outbox.setPayload(payload);
-            outbox.setCreatedAt(LocalDateTime.now());
-            return outboxJpaRepository.save(outbox);
-
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+                course.getNumero(),
+                course.getVersion());
+        return toOutbox("course-created", course.getId(), event);
+    }
+
+    private OutboxEvent toAddedParticipantOutbox(CourseId courseId, Participant participant) {
+        ParticipantAddedEvent event = new ParticipantAddedEvent(
+                courseId.getValue(),
+                participant.getId().getValue(),
+                participant.getNom(),
+                participant.getDossard());
+        return toOutbox("participant-added", courseId, event);
+    }
 
+    private OutboxEvent toOutbox(String topic, CourseId aggregateId, Object event) {
+        EventCodec codec = eventCodecs.writer();
+        OutboxEvent outbox = new OutboxEvent();
+        outbox.setId(UUID.randomUUID());
+        outbox.setTopic(topic);
+        outbox.setAggregateKey(aggregateId.toString());
+        outbox.setKeyHash(aggregateId.toString().hashCode() & Integer.MAX_VALUE);
+        outbox.setPayload(codec.encode(event));
+        outbox.setContentType(codec.contentType());
+        outbox.setCreatedAt(LocalDateTime.now());
+        return outbox;
     }
 
 }
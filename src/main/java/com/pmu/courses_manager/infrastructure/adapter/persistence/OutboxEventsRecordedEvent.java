@@ -0,0 +1,8 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+/**
+ * Événement applicatif signalant que des lignes ont été ajoutées à l'outbox
+ * dans la transaction courante
+ */
+public record OutboxEventsRecordedEvent(int count) {
+}
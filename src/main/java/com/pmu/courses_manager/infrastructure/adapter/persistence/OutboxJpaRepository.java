@@ -1,11 +1,65 @@
 package com.pmu.courses_manager.infrastructure.adapter.persistence;
 
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface OutboxJpaRepository extends JpaRepository<OutboxEvent, UUID> {
-    List<OutboxEvent> findAllBySentFalse();
+
+    /**
+     * Réserve au plus {@code limit} événements non envoyés du shard donné, les plus anciens d'abord.
+     * Tous les événements d'une même clé tombent dans le même shard, relayé par un seul worker :
+     * l'ordre par agrégat est conservé. Les lignes déjà verrouillées sont ignorées.
+     */
+    @Query(value = "SELECT * FROM outbox WHERE sent = false AND MOD(key_hash, :shards) = :shard " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> claimUnsentBatch(@Param("shard") int shard, @Param("shards") int shards, @Param("limit") int limit);
+
+    /**
+     * Marque les événements donnés comme envoyés en une seule requête
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.sent = true WHERE o.id IN :ids")
+    int markAsSent(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Événements commités pas encore numérotés pour le flux de changements, les plus anciens d'abord
+     */
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.sequence IS NULL ORDER BY o.createdAt")
+    List<UUID> findUnsequenced(Limit limit);
+
+    /**
+     * Attribue son numéro d'ordre à un événement
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.sequence = :sequence WHERE o.id = :id")
+    int assignSequence(@Param("id") UUID id, @Param("sequence") long sequence);
+
+    /**
+     * Événements des topics donnés postérieurs à {@code sequence}, par numéro d'ordre croissant.
+     * Les événements pas encore numérotés sont exclus.
+     */
+    @Query("SELECT o FROM OutboxEvent o WHERE o.sequence > :sequence AND o.topic IN :topics ORDER BY o.sequence")
+    List<OutboxEvent> findAfter(@Param("sequence") long sequence, @Param("topics") Collection<String> topics, Limit limit);
+
+    /**
+     * Plus petit numéro d'ordre encore présent après rétention, ou {@code null} si l'outbox est vide
+     */
+    @Query("SELECT MIN(o.sequence) FROM OutboxEvent o")
+    Long findOldestSequence();
+
+    /**
+     * Date de création du plus ancien événement non envoyé, ou {@code null} si le backlog est vide
+     */
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.sent = false")
+    LocalDateTime findOldestUnsentCreatedAt();
 }
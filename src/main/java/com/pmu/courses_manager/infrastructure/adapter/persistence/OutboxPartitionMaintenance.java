@@ -0,0 +1,190 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Cycle de vie de la table outbox sur PostgreSQL :
+ * création anticipée des partitions journalières et rétention par suppression
+ * (ou détachement) de partitions entières plutôt que ligne par ligne.
+ * Une partition n'est jamais supprimée tant qu'elle contient des événements non envoyés.
+ * La partition par défaut, qui reçoit les lignes arrivées avant la création de leur partition,
+ * n'est jamais supprimée : ses lignes envoyées et expirées le sont par lots.
+ */
+@Component
+public class OutboxPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxPartitionMaintenance.class);
+
+    private static final String PARTITION_PREFIX = "outbox_p";
+    private static final String DEFAULT_PARTITION = "outbox_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    // Clé du verrou consultatif garantissant qu'un seul nœud fait la maintenance à la fois
+    private static final long MAINTENANCE_LOCK_KEY = 0x6f7574626f78L;
+    private static final int DELETE_BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int daysAhead;
+    private final boolean dropExpired;
+    private final boolean enabled;
+
+    public OutboxPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${outbox.retention.period:7d}") Duration retention,
+                                      @Value("${outbox.retention.partitions-ahead:2}") int daysAhead,
+                                      @Value("${outbox.retention.mode:drop}") String mode,
+                                      @Value("${outbox.retention.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.daysAhead = daysAhead;
+        this.dropExpired = !"detach".equalsIgnoreCase(mode);
+        this.enabled = enabled && isPostgreSQL();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 15 * * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return;
+                }
+                if (isPartitioned()) {
+                    createUpcomingPartitions();
+                    removeExpiredPartitions();
+                    deleteExpiredRows(DEFAULT_PARTITION);
+                } else {
+                    deleteExpiredRows("outbox");
+                }
+            });
+        } catch (DataAccessException e) {
+            logger.error("Outbox maintenance failed", e);
+        }
+    }
+
+    private boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c " +
+                        "WHERE c.relname = 'outbox' AND c.relnamespace = current_schema()::regnamespace",
+                String.class);
+        return kinds.contains("p");
+    }
+
+    private void createUpcomingPartitions() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i <= daysAhead; i++) {
+            LocalDate day = today.plusDays(i);
+            String partition = PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+            try {
+                jdbcTemplate.execute("SAVEPOINT outbox_partition");
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF outbox " +
+                        "FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+                jdbcTemplate.execute("RELEASE SAVEPOINT outbox_partition");
+            } catch (DataAccessException e) {
+                // Typiquement : des lignes de ce jour sont déjà dans la partition par défaut
+                jdbcTemplate.execute("ROLLBACK TO SAVEPOINT outbox_partition");
+                logger.warn("Unable to create outbox partition {}", partition, e);
+            }
+        }
+    }
+
+    private void removeExpiredPartitions() {
+        LocalDate cutoff = LocalDateTime.now().minus(retention).toLocalDate();
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = 'outbox' AND p.relnamespace = current_schema()::regnamespace",
+                String.class);
+
+        for (String partition : partitions) {
+            LocalDate day = partitionDay(partition);
+            // La partition couvre [day, day + 1) : elle expire quand sa borne haute est dépassée
+            if (day == null || day.plusDays(1).isAfter(cutoff)) {
+                continue;
+            }
+            Boolean pending = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE sent = false)", Boolean.class);
+            if (Boolean.TRUE.equals(pending)) {
+                logger.warn("Outbox partition {} still holds unsent events, keeping it", partition);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE outbox DETACH PARTITION " + partition);
+            if (dropExpired) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                logger.info("Dropped expired outbox partition {}", partition);
+            } else {
+                logger.info("Detached expired outbox partition {} for archiving", partition);
+            }
+        }
+    }
+
+    private static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Suppression par lots bornés des lignes envoyées et expirées : partition par défaut,
+     * ou table outbox créée avant le partitionnement
+     */
+    private void deleteExpiredRows(String table) {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(
+                    "DELETE FROM " + table + " WHERE id IN (" +
+                            "SELECT id FROM " + table + " WHERE sent = true AND created_at < ? LIMIT ?)",
+                    cutoff, DELETE_BATCH_SIZE);
+        } while (deleted == DELETE_BATCH_SIZE);
+    }
+
+    private boolean isPostgreSQL() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName) == DatabaseDriver.POSTGRESQL;
+        } catch (MetaDataAccessException e) {
+            logger.warn("Unable to detect database platform, outbox maintenance disabled", e);
+            return false;
+        }
+    }
+}
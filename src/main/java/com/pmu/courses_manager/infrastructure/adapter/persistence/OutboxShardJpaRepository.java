@@ -0,0 +1,29 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxShardJpaRepository extends JpaRepository<OutboxShard, Integer> {
+
+    /**
+     * Verrouille la ligne du shard jusqu'à la fin de la transaction.
+     * Renvoie une liste vide si une autre instance le détient déjà.
+     */
+    @Query(value = "SELECT shard FROM outbox_shards WHERE shard = :shard FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Integer> tryLock(@Param("shard") int shard);
+
+    /**
+     * Crée la ligne du shard si elle n'existe pas encore
+     */
+    @Modifying
+    @Query(value = "INSERT INTO outbox_shards (shard) SELECT :shard " +
+            "WHERE NOT EXISTS (SELECT 1 FROM outbox_shards WHERE shard = :shard)",
+            nativeQuery = true)
+    int createIfMissing(@Param("shard") int shard);
+}
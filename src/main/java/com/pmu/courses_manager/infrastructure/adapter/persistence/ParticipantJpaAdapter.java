@@ -1,7 +1,6 @@
 package com.pmu.courses_manager.infrastructure.adapter.persistence;
 
 
-import com.pmu.courses_manager.application.exception.CourseInexistanteException;
 import com.pmu.courses_manager.domain.model.CourseId;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.model.ParticipantId;
@@ -9,8 +8,17 @@ import com.pmu.courses_manager.domain.port.out.ParticipantPersistencePort;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseJpaEntity;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.ParticipantJpaEntity;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.mapper.ParticipantMapper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,30 +27,69 @@ import java.util.Optional;
 @Service
 public class ParticipantJpaAdapter implements ParticipantPersistencePort {
 
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (nom, dossard, course_id) VALUES (?, ?, ?)";
+
     private final ParticipantJpaRepository participantRepository;
     private final CourseJpaRepository courseJpaRepository;
 
     private final ParticipantMapper participantMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     public ParticipantJpaAdapter(
             ParticipantJpaRepository participantRepository, CourseJpaRepository courseJpaRepository,
-            ParticipantMapper participantMapper) {
+            ParticipantMapper participantMapper, JdbcTemplate jdbcTemplate) {
         this.participantRepository = participantRepository;
         this.courseJpaRepository = courseJpaRepository;
         this.participantMapper = participantMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public Participant save(CourseId courseId, Participant participant) {
-        CourseJpaEntity courseJpaEntity = courseJpaRepository.findById(courseId.getValue())
-                .orElseThrow(() -> new CourseInexistanteException("Course non trouvée avec l'id : " + courseId));
+        // L'existence de la course est vérifiée par le service : une référence suffit pour la clé étrangère
+        CourseJpaEntity courseJpaEntity = courseJpaRepository.getReferenceById(courseId.getValue());
 
         ParticipantJpaEntity participantJpaEntity = participantMapper.toEntity(participant);
         participantJpaEntity.setCourse(courseJpaEntity);
         ParticipantJpaEntity savedEntity = participantRepository.save(participantJpaEntity);
+        courseJpaRepository.incrementVersion(courseId.getValue());
         return participantMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Participant> saveAll(CourseId courseId, List<Participant> participants) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_PARTICIPANT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Participant participant = participants.get(i);
+                        ps.setString(1, participant.getNom());
+                        ps.setInt(2, participant.getDossard());
+                        ps.setLong(3, courseId.getValue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return participants.size();
+                    }
+                },
+                keyHolder);
+
+        courseJpaRepository.incrementVersion(courseId.getValue());
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Participant> savedParticipants = new ArrayList<>(participants.size());
+        for (int i = 0; i < participants.size(); i++) {
+            Participant participant = participants.get(i);
+            Long id = ((Number) keys.get(i).get("id")).longValue();
+            savedParticipants.add(Participant.reconstitute(new ParticipantId(id), participant.getNom(), participant.getDossard()));
+        }
+        return savedParticipants;
+    }
+
     @Override
     public Optional<Participant> findById(ParticipantId participantId) {
         return participantRepository.findById(participantId.getValue())
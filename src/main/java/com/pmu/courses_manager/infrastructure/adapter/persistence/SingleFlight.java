@@ -0,0 +1,67 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Regroupe les chargements concurrents d'une même clé : le premier appelant exécute
+ * le chargement, les suivants attendent son résultat au lieu d'interroger la base à leur tour.
+ * Un échec est propagé à tous les appelants regroupés ; rien n'est conservé après le chargement.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+
+    SingleFlight(String cache, MeterRegistry meterRegistry) {
+        this.loads = Counter.builder("cache.single-flight.loads")
+                .description("Chargements exécutés depuis la base")
+                .tag("cache", cache)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("cache.single-flight.coalesced")
+                .description("Chargements évités en attendant un chargement en cours de la même clé")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
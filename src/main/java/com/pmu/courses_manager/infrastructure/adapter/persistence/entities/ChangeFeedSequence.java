@@ -0,0 +1,37 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Compteur du flux de changements : une seule ligne, verrouillée par le relais le temps de numéroter
+ * les événements commités de l'outbox. Les numéros deviennent ainsi visibles dans l'ordre de leur attribution.
+ */
+@Entity
+@Table(name = "change_feed_sequence")
+public class ChangeFeedSequence {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(Long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
@@ -27,6 +27,11 @@ public class CourseJpaEntity {
     @Column(name = "numero", nullable = false)
     private Integer numero;
 
+    // Incrémentée à chaque modification de la course, y compris l'ajout de participants
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ParticipantJpaEntity> participants = new HashSet<>();
 
@@ -63,6 +68,14 @@ public class CourseJpaEntity {
         this.numero = numero;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<ParticipantJpaEntity> getParticipants() {
         return participants;
     }
@@ -0,0 +1,9 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence.entities;
+
+import java.time.LocalDate;
+
+/**
+ * Projection étroite d'une ligne de la table courses, sans jointure sur les participants
+ */
+public record CourseSummaryProjection(Long id, String nom, LocalDate date, Integer numero, Long version) {
+}
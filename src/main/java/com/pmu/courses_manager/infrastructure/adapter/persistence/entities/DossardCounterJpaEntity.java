@@ -0,0 +1,37 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Compteur de dossards d'une course : une ligne par course, incrémentée atomiquement
+ */
+@Entity
+@Table(name = "dossard_counters")
+public class DossardCounterJpaEntity {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "last_dossard", nullable = false)
+    private Integer lastDossard;
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getLastDossard() {
+        return lastDossard;
+    }
+
+    public void setLastDossard(Integer lastDossard) {
+        this.lastDossard = lastDossard;
+    }
+}
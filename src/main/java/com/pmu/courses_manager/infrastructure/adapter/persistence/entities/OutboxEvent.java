@@ -6,14 +6,27 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = @Index(name = "idx_outbox_seq", columnList = "seq"))
 public class OutboxEvent {
 
     @Id
     private UUID id;
+    // Numéro d'ordre attribué par le relais après le commit, nul jusque-là : curseur du flux de changements
+    @Column(name = "seq", insertable = false, updatable = false)
+    private Long sequence;
     private String topic;
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String payload;
+    // Clé Kafka de l'événement (identifiant de la course) : garantit l'ordre par agrégat
+    @Column(name = "aggregate_key")
+    private String aggregateKey;
+    // Hash positif de la clé, utilisé pour répartir le relais en shards
+    @Column(name = "key_hash", nullable = false)
+    private int keyHash;
+    // Événement encodé par le codec indiqué dans contentType
+    @Column(nullable = false)
+    private byte[] payload;
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+    @Column(nullable = false)
     private LocalDateTime createdAt;
     private boolean sent = false;
 
@@ -25,6 +38,10 @@ public class OutboxEvent {
         this.id = id;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
     public String getTopic() {
         return topic;
     }
@@ -33,14 +50,38 @@ public class OutboxEvent {
         this.topic = eventType;
     }
 
-    public String getPayload() {
+    public String getAggregateKey() {
+        return aggregateKey;
+    }
+
+    public void setAggregateKey(String aggregateKey) {
+        this.aggregateKey = aggregateKey;
+    }
+
+    public int getKeyHash() {
+        return keyHash;
+    }
+
+    public void setKeyHash(int keyHash) {
+        this.keyHash = keyHash;
+    }
+
+    public byte[] getPayload() {
         return payload;
     }
 
-    public void setPayload(String payload) {
+    public void setPayload(byte[] payload) {
         this.payload = payload;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,25 @@
+package com.pmu.courses_manager.infrastructure.adapter.persistence.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Shard du relais de l'outbox : une ligne par shard, verrouillée par l'instance qui le traite.
+ * Un shard n'est ainsi relayé que par un seul worker à la fois, dans tout le cluster.
+ */
+@Entity
+@Table(name = "outbox_shards")
+public class OutboxShard {
+
+    @Id
+    private Integer shard;
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+}
@@ -1,14 +1,17 @@
 package com.pmu.courses_manager.infrastructure.adapter.persistence.mapper;
 
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseJpaEntity;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.CourseSummaryProjection;
 import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.ParticipantJpaEntity;
 import com.pmu.courses_manager.domain.model.Course;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.model.ParticipantId;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,6 +31,7 @@ public class CourseMapper {
         entity.setNom(domain.getNom());
         entity.setDate(domain.getDate());
         entity.setNumero(domain.getNumero());
+        entity.setVersion(domain.getVersion());
 
         Set<ParticipantJpaEntity> participantEntities = domain.getParticipants().stream()
                 .map(this::toParticipantEntity)
@@ -53,17 +57,26 @@ public class CourseMapper {
     }
 
     public Course toDomain(CourseJpaEntity entity) {
-        Course course = Course.reconstitute(
+        // Les participants gardent leur identifiant : l'enregistrement de la course les met à jour sans les recréer
+        List<Participant> participants = entity.getParticipants().stream()
+                .map(this::toParticipantDomain)
+                .toList();
+        return Course.reconstitute(
                 new CourseId(entity.getId()),
                 entity.getNom(),
                 entity.getDate(),
-                entity.getNumero());
+                entity.getNumero(),
+                entity.getVersion(),
+                participants);
+    }
 
-        for (ParticipantJpaEntity participantEntity : entity.getParticipants()) {
-            Participant participant = toParticipantDomain(participantEntity);
-            course.addParticipant(participant.getNom(), participant.getDossard());
-        }
-        return course;
+    public CourseSummary toSummary(CourseSummaryProjection projection) {
+        return new CourseSummary(
+                new CourseId(projection.id()),
+                projection.nom(),
+                projection.date(),
+                projection.numero(),
+                projection.version());
     }
 
     public Participant toParticipantDomain(ParticipantJpaEntity entity) {
@@ -1,20 +1,35 @@
 package com.pmu.courses_manager.infrastructure.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Configuration Kafka
  */
 @Configuration
 class KafkaConfig {
 
+    static final String JSON = "application/json";
+    static final String CBOR = "application/cbor";
+
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
     @Bean
@@ -23,4 +38,54 @@ class KafkaConfig {
         mapper.registerModule(new JavaTimeModule());
         return mapper;
     }
-}
\ No newline at end of file
+
+    /**
+     * Codecs des événements : CBOR par défaut, JSON pour les messages sans type de contenu
+     */
+    @Bean
+    public EventCodecs eventCodecs(ObjectMapper objectMapper, @Value("${events.codec:" + CBOR + "}") String codec) {
+        CBORMapper cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        return new EventCodecs(
+                List.of(new JacksonEventCodec(JSON, objectMapper), new JacksonEventCodec(CBOR, cborMapper)),
+                codec,
+                JSON);
+    }
+
+    /**
+     * Topic compacté des invalidations de course : seule la dernière invalidation par course est conservée
+     */
+    @Bean
+    public NewTopic courseInvalidationsTopic(@Value("${course-cache.invalidation.partitions:3}") int partitions) {
+        return TopicBuilder.name("course-invalidations")
+                .partitions(partitions)
+                .compact()
+                .build();
+    }
+
+    /**
+     * Conteneurs de listeners par lots ({@code List<ConsumerRecord>}) pour la projection de lecture.
+     * Au-delà du nombre de partitions des topics, les consommateurs supplémentaires restent inactifs.
+     * Configurés comme la fabrique par défaut de Spring Boot, threads virtuels compris.
+     * Un consommateur sans enregistrement pendant {@code read-model.consumer.idle-event-interval}
+     * publie un événement d'inactivité : ses partitions sont à jour.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            @Value("${read-model.consumer.concurrency:3}") int concurrency,
+            @Value("${read-model.consumer.idle-event-interval:30s}") Duration idleEventInterval) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(castFactory(factory), consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setIdleEventInterval(idleEventInterval.toMillis());
+        return factory;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ConcurrentKafkaListenerContainerFactory<Object, Object> castFactory(
+            ConcurrentKafkaListenerContainerFactory<String, byte[]> factory) {
+        return (ConcurrentKafkaListenerContainerFactory) factory;
+    }
+}
@@ -0,0 +1,30 @@
+package com.pmu.courses_manager.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration du flux en direct des courses (Server-Sent Events)
+ */
+@Configuration
+class LiveFeedConfig {
+
+    /**
+     * Threads d'écriture vers les abonnés : chaque passe vide la file d'un abonné.
+     * Une écriture bloquée par un client lent n'occupe qu'un de ces threads, jamais le listener Kafka,
+     * jusqu'au délai d'écriture du serveur. En mode threads virtuels, chaque passe a son propre thread.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService liveFeedExecutor(@Value("${live-feed.senders:8}") int senders,
+                                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("live-feed-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(senders, new CustomizableThreadFactory("live-feed-"));
+    }
+}
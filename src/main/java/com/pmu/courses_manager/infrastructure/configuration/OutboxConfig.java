@@ -0,0 +1,44 @@
+package com.pmu.courses_manager.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration du relais de l'outbox
+ */
+@Configuration
+class OutboxConfig {
+
+    /**
+     * Un thread par shard du relais, plus un pour la numérotation du flux de changements, pour les passes
+     * déclenchées après commit ou par le poll de secours. En mode threads virtuels, chaque passe démarre
+     * un thread virtuel : le nombre de passes simultanées reste borné par le nombre de workers.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService outboxRelayExecutor(@Value("${outbox.relay.workers:4}") int workers,
+                                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-relay-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(relayThreads(workers), new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    /**
+     * Passes simultanées du relais, et donc connexions qu'il peut occuper : une par shard, plus la numérotation
+     */
+    static int relayThreads(int workers) {
+        return workers + 1;
+    }
+
+    @Bean
+    public OutboxSchemaInitializer outboxSchemaInitializer(DataSource dataSource) {
+        return new OutboxSchemaInitializer(dataSource);
+    }
+}
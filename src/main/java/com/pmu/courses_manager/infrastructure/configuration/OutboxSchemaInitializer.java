@@ -0,0 +1,53 @@
+package com.pmu.courses_manager.infrastructure.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Crée la table outbox partitionnée et son index partiel avant l'initialisation de JPA.
+ * Le script n'est exécuté que sur PostgreSQL ; ailleurs (H2 en test), Hibernate crée la table.
+ */
+class OutboxSchemaInitializer extends DataSourceScriptDatabaseInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxSchemaInitializer.class);
+
+    static final String SCHEMA_LOCATION = "classpath:db/outbox/schema-postgresql.sql";
+
+    OutboxSchemaInitializer(DataSource dataSource) {
+        super(dataSource, settings());
+    }
+
+    private static DatabaseInitializationSettings settings() {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of(SCHEMA_LOCATION));
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        return settings;
+    }
+
+    @Override
+    protected void runScripts(Scripts scripts) {
+        if (isPostgreSQL()) {
+            super.runScripts(scripts);
+        }
+    }
+
+    private boolean isPostgreSQL() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName) == DatabaseDriver.POSTGRESQL;
+        } catch (MetaDataAccessException e) {
+            logger.warn("Unable to detect database platform, skipping outbox schema script", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.pmu.courses_manager.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Mode threads virtuels ({@code spring.threads.virtual.enabled=true}).
+ * Spring Boot bascule alors Tomcat, les conteneurs Kafka et le scheduler sur des threads virtuels ;
+ * le relais de l'outbox fait de même (voir {@link OutboxConfig}). Cette configuration ajoute le
+ * limiteur qui protège le pool de connexions.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+class VirtualThreadConfig {
+
+    /**
+     * Autant de requêtes API simultanées que de connexions, moins celles réservées aux passes du relais
+     * ({@link OutboxConfig#relayThreads(int)})
+     */
+    @Bean
+    public FilterRegistrationBean<ConnectionConcurrencyFilter> connectionConcurrencyFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${outbox.relay.workers:4}") int relayWorkers,
+            @Value("${app.concurrency.acquire-timeout:2s}") Duration acquireTimeout) throws SQLException {
+        int poolSize = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                : 10;
+        int permits = Math.max(1, poolSize - OutboxConfig.relayThreads(relayWorkers));
+        FilterRegistrationBean<ConnectionConcurrencyFilter> registration =
+                new FilterRegistrationBean<>(new ConnectionConcurrencyFilter(permits, acquireTimeout, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
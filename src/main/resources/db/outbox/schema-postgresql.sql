@@ -0,0 +1,65 @@
+-- Outbox partitionnée par jour de création (PostgreSQL uniquement).
+-- Les partitions journalières sont créées à l'avance et supprimées par OutboxPartitionMaintenance ;
+-- la partition par défaut ne reçoit que les lignes arrivées avant la création de leur partition.
+-- Une table outbox existante non partitionnée est conservée telle quelle : la rétention
+-- se rabat alors sur des suppressions par lots.
+
+-- Ancienne numérotation à l'insertion, conservée pour numéroter les lignes existantes
+-- et reprendre le compteur du flux de changements à sa suite
+CREATE SEQUENCE IF NOT EXISTS outbox_seq;
+
+CREATE TABLE IF NOT EXISTS outbox (
+    id            uuid         NOT NULL,
+    seq           bigint,
+    topic         varchar(255),
+    aggregate_key varchar(255),
+    key_hash      integer      NOT NULL DEFAULT 0,
+    payload       bytea        NOT NULL,
+    content_type  varchar(255) NOT NULL,
+    created_at    timestamp(6) NOT NULL,
+    sent          boolean      NOT NULL DEFAULT false,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Colonnes du relais par shards, pour une table créée avant leur introduction.
+-- Les lignes existantes gardent une clé nulle et key_hash 0 : elles sont relayées par le shard 0
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS aggregate_key varchar(255);
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS key_hash integer NOT NULL DEFAULT 0;
+
+-- Charges utiles binaires : les anciennes lignes JSON texte sont converties et étiquetées
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS content_type varchar(255) NOT NULL DEFAULT 'application/json';
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = ''outbox''
+                 AND column_name = ''payload'' AND data_type = ''text'') THEN
+        ALTER TABLE outbox ALTER COLUMN payload TYPE bytea USING convert_to(payload, ''UTF8'');
+    END IF;
+END';
+
+-- Numéro d'ordre pour une table créée avant le flux de changements : les lignes existantes sont numérotées
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS seq bigint NOT NULL DEFAULT nextval('outbox_seq');
+
+-- Curseur de GET /api/changes, désormais attribué par le relais après le commit, dans l'ordre de visibilité
+ALTER TABLE outbox ALTER COLUMN seq DROP DEFAULT;
+ALTER TABLE outbox ALTER COLUMN seq DROP NOT NULL;
+
+CREATE TABLE IF NOT EXISTS change_feed_sequence (
+    id            integer NOT NULL PRIMARY KEY,
+    last_sequence bigint  NOT NULL
+);
+INSERT INTO change_feed_sequence (id, last_sequence)
+SELECT 0, GREATEST((SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM outbox_seq),
+                   (SELECT COALESCE(MAX(seq), 0) FROM outbox))
+ON CONFLICT DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS outbox_default PARTITION OF outbox DEFAULT;
+
+-- Index partiel : la requête du relais ne parcourt que le backlog, pas l'historique
+CREATE INDEX IF NOT EXISTS idx_outbox_unsent ON outbox (created_at) WHERE sent = false;
+
+-- Lecture du flux de changements par numéro d'ordre
+CREATE INDEX IF NOT EXISTS idx_outbox_seq ON outbox (seq);
+
+-- Index partiel : la numérotation ne parcourt que les événements en attente
+CREATE INDEX IF NOT EXISTS idx_outbox_unsequenced ON outbox (created_at) WHERE seq IS NULL;
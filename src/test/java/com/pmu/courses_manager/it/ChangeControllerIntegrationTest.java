@@ -0,0 +1,121 @@
+package com.pmu.courses_manager.it;
+
+import com.pmu.courses_manager.application.api.ChangeResources;
+import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.ChangePage;
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseChange;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import com.pmu.courses_manager.domain.port.in.ChangeFeedUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration pour le contrôleur REST du flux de changements
+ */
+@WebMvcTest(ChangeResources.class)
+class ChangeControllerIntegrationTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2025, 5, 5, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChangeFeedUseCase changeFeedUseCase;
+
+    @SpyBean
+    private ApplicationMapper applicationMapper;
+
+    @Test
+    @DisplayName("Doit renvoyer les changements avec le contenu propre à chaque type")
+    void shouldReturnChangesWithTypedPayloads() throws Exception {
+        // Given
+        CourseId courseId = new CourseId(1L);
+        Course course = Course.reconstitute(courseId, "Prix A", LocalDate.of(2025, 5, 5), 3);
+        Participant participant = Participant.reconstitute(new ParticipantId(10L), "Cheval", 4);
+        when(changeFeedUseCase.getChanges(41, 3)).thenReturn(new ChangePage(List.of(
+                new CourseChange(42, "course-created", courseId, OCCURRED_AT, course, null),
+                new CourseChange(43, "participant-added", courseId, OCCURRED_AT, null, participant),
+                new CourseChange(44, "course-deleted", courseId, OCCURRED_AT, null, null)),
+                44, true, false));
+
+        // When & Then
+        mockMvc.perform(get("/api/changes").param("since", "41").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(3))
+                .andExpect(jsonPath("$.changes[0].sequence").value(42))
+                .andExpect(jsonPath("$.changes[0].type").value("course-created"))
+                .andExpect(jsonPath("$.changes[0].courseId").value(1))
+                .andExpect(jsonPath("$.changes[0].course.nom").value("Prix A"))
+                .andExpect(jsonPath("$.changes[0].course.numero").value(3))
+                .andExpect(jsonPath("$.changes[0].participant").doesNotExist())
+                .andExpect(jsonPath("$.changes[1].participant.id").value(10))
+                .andExpect(jsonPath("$.changes[1].participant.nom").value("Cheval"))
+                .andExpect(jsonPath("$.changes[1].participant.dossard").value(4))
+                .andExpect(jsonPath("$.changes[1].course").doesNotExist())
+                .andExpect(jsonPath("$.changes[2].course").doesNotExist())
+                .andExpect(jsonPath("$.changes[2].participant").doesNotExist())
+                .andExpect(jsonPath("$.next").value(44))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.resync").value(false));
+    }
+
+    @Test
+    @DisplayName("Doit partir du début avec la taille de page par défaut")
+    void shouldStartFromBeginningWithDefaultPageSize() throws Exception {
+        // Given
+        when(changeFeedUseCase.getChanges(0, ChangeFeedUseCase.DEFAULT_PAGE_SIZE))
+                .thenReturn(new ChangePage(List.of(), 0, false, false));
+
+        // When & Then
+        mockMvc.perform(get("/api/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.next").value(0));
+        verify(changeFeedUseCase).getChanges(0, ChangeFeedUseCase.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Doit signaler une resynchronisation quand l'historique a été purgé")
+    void shouldSignalResyncWhenHistoryWasPurged() throws Exception {
+        // Given
+        when(changeFeedUseCase.getChanges(5, 10)).thenReturn(new ChangePage(List.of(), 5, false, true));
+
+        // When & Then
+        mockMvc.perform(get("/api/changes").param("since", "5").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resync").value(true))
+                .andExpect(jsonPath("$.next").value(5));
+    }
+
+    @Test
+    @DisplayName("Doit refuser un curseur invalide")
+    void shouldRejectInvalidCursor() throws Exception {
+        // Given
+        when(changeFeedUseCase.getChanges(-1, ChangeFeedUseCase.DEFAULT_PAGE_SIZE))
+                .thenThrow(new IllegalArgumentException("Curseur de changements invalide : -1"));
+
+        // When & Then
+        mockMvc.perform(get("/api/changes").param("since", "-1"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ILLEGAL_ARGUMENT"));
+    }
+}
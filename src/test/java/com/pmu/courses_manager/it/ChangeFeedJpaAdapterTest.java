@@ -0,0 +1,198 @@
+package com.pmu.courses_manager.it;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.domain.model.CourseChange;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseCreatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseDeletedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseInvalidatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.OutboxRelay;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.ParticipantAddedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.ChangeFeedJpaAdapter;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.ChangeFeedSequenceJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxShardJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests d'intégration du flux de changements lu dans l'outbox, numérotée par le relais
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChangeFeedJpaAdapterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 5);
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private OutboxShardJpaRepository outboxShardJpaRepository;
+
+    @Autowired
+    private ChangeFeedSequenceJpaRepository changeFeedSequenceJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private EventCodecs eventCodecs;
+    private OutboxRelay outboxRelay;
+    private ChangeFeedJpaAdapter changeFeedJpaAdapter;
+
+    @BeforeEach
+    void setUp() {
+        eventCodecs = new EventCodecs(
+                List.of(new JacksonEventCodec("application/json", new ObjectMapper().registerModule(new JavaTimeModule()))),
+                "application/json", "application/json");
+        changeFeedJpaAdapter = new ChangeFeedJpaAdapter(outboxJpaRepository, eventCodecs);
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+        outboxRelay = new OutboxRelay(outboxJpaRepository, outboxShardJpaRepository, changeFeedSequenceJpaRepository,
+                kafkaTemplate, new TransactionTemplate(transactionManager), Runnable::run, 1, 2,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(30),
+                new SimpleMeterRegistry(), CircuitBreakerRegistry.ofDefaults());
+        changeFeedSequenceJpaRepository.createIfMissing();
+    }
+
+    private void record(String topic, long courseId, Object event) {
+        record(topic, String.valueOf(courseId), Long.hashCode(courseId) & Integer.MAX_VALUE, event);
+    }
+
+    private void record(String topic, String aggregateKey, int keyHash, Object event) {
+        OutboxEvent outbox = new OutboxEvent();
+        outbox.setId(UUID.randomUUID());
+        outbox.setTopic(topic);
+        outbox.setAggregateKey(aggregateKey);
+        outbox.setKeyHash(keyHash);
+        outbox.setPayload(eventCodecs.writer().encode(event));
+        outbox.setContentType(eventCodecs.writer().contentType());
+        outbox.setCreatedAt(LocalDateTime.now());
+        outboxJpaRepository.save(outbox);
+    }
+
+    private void recordCourseCreated(long courseId) {
+        record("course-created", courseId, new CourseCreatedEvent(courseId, "Prix " + courseId, DATE, (int) courseId));
+    }
+
+    /**
+     * Numérote les événements en attente, puis vide le contexte : les mises à jour en masse ne le rafraîchissent pas
+     */
+    private void sequence() {
+        outboxRelay.sequenceChanges();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Ne doit servir que les changements déjà numérotés")
+    void shouldServeOnlySequencedChanges() {
+        // Given
+        recordCourseCreated(1L);
+        recordCourseCreated(2L);
+        sequence();
+        recordCourseCreated(3L);
+
+        // When
+        List<CourseChange> beforeSequencing = changeFeedJpaAdapter.findAfter(0, 10);
+        sequence();
+        List<CourseChange> afterSequencing = changeFeedJpaAdapter.findAfter(2, 10);
+
+        // Then : l'événement non numéroté n'est servi qu'après, derrière les numéros déjà lus
+        assertEquals(List.of(1L, 2L), beforeSequencing.stream().map(CourseChange::sequence).toList());
+        assertEquals(List.of(3L), afterSequencing.stream().map(CourseChange::sequence).toList());
+        assertEquals(new CourseId(3L), afterSequencing.get(0).courseId());
+    }
+
+    @Test
+    @DisplayName("Ne doit exposer que les événements de course, avec leur contenu typé")
+    void shouldExposeOnlyCourseEventsWithTypedPayloads() {
+        // Given
+        recordCourseCreated(1L);
+        record("course-invalidations", 1L, new CourseInvalidatedEvent(1L));
+        record("participant-added", 1L, new ParticipantAddedEvent(1L, 10L, "Cheval", 4));
+        record("course-deleted", 1L, new CourseDeletedEvent(1L));
+        sequence();
+
+        // When
+        List<CourseChange> changes = changeFeedJpaAdapter.findAfter(0, 10);
+
+        // Then
+        assertEquals(List.of("course-created", "participant-added", "course-deleted"),
+                changes.stream().map(CourseChange::type).toList());
+        assertEquals(List.of(1L, 3L, 4L), changes.stream().map(CourseChange::sequence).toList());
+        assertEquals("Prix 1", changes.get(0).course().getNom());
+        assertEquals(DATE, changes.get(0).course().getDate());
+        assertNull(changes.get(0).participant());
+        assertEquals(new ParticipantId(10L), changes.get(1).participant().getId());
+        assertEquals(4, changes.get(1).participant().getDossard());
+        assertNull(changes.get(2).course());
+        assertNull(changes.get(2).participant());
+    }
+
+    @Test
+    @DisplayName("Doit lire l'identifiant de course dans le contenu des lignes sans clé d'agrégat")
+    void shouldReadCourseIdFromPayloadOfLegacyRows() {
+        // Given : lignes écrites avant l'introduction de la clé d'agrégat
+        record("course-created", null, 0, new CourseCreatedEvent(1L, "Prix 1", DATE, 1));
+        record("participant-added", null, 0, new ParticipantAddedEvent(1L, 10L, "Cheval", 4));
+        record("course-deleted", null, 0, new CourseDeletedEvent(1L));
+        sequence();
+
+        // When
+        List<CourseChange> changes = changeFeedJpaAdapter.findAfter(0, 10);
+
+        // Then
+        assertEquals(3, changes.size());
+        assertTrue(changes.stream().allMatch(change -> new CourseId(1L).equals(change.courseId())));
+        assertEquals(new CourseId(1L), changes.get(0).course().getId());
+    }
+
+    @Test
+    @DisplayName("Doit limiter la taille d'une page et reprendre après le curseur")
+    void shouldLimitPageAndResumeAfterCursor() {
+        // Given
+        for (long courseId = 1; courseId <= 5; courseId++) {
+            recordCourseCreated(courseId);
+        }
+        sequence();
+
+        // When
+        List<CourseChange> firstPage = changeFeedJpaAdapter.findAfter(0, 2);
+        List<CourseChange> secondPage = changeFeedJpaAdapter.findAfter(firstPage.get(1).sequence(), 2);
+
+        // Then
+        assertEquals(List.of(1L, 2L), firstPage.stream().map(CourseChange::sequence).toList());
+        assertEquals(List.of(3L, 4L), secondPage.stream().map(CourseChange::sequence).toList());
+        assertEquals(1L, changeFeedJpaAdapter.findOldestSequence().getAsLong());
+    }
+}
@@ -0,0 +1,106 @@
+package com.pmu.courses_manager.it;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pmu.courses_manager.application.api.CourseLiveFeed;
+import com.pmu.courses_manager.application.api.CourseResources;
+import com.pmu.courses_manager.application.api.CourseResponseCache;
+import com.pmu.courses_manager.application.api.request.CreateCourseRequest;
+import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.port.in.CourseManagementUseCase;
+import com.pmu.courses_manager.domain.port.in.ParticipantManagementUseCase;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Vérifie que les cloisons Resilience4j sont effectivement appliquées aux endpoints :
+ * la cloison d'écriture, réduite à un appel, est saturée par une requête en cours
+ */
+@WebMvcTest(controllers = CourseResources.class,
+        properties = "resilience4j.bulkhead.instances.courseWrites.max-concurrent-calls=1")
+@ImportAutoConfiguration({AopAutoConfiguration.class, BulkheadAutoConfiguration.class})
+@Import({CourseResponseCache.class, SimpleMeterRegistry.class})
+class CourseBulkheadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CourseManagementUseCase courseManagementUseCase;
+
+    @MockBean
+    private ParticipantManagementUseCase participantManagementUseCase;
+
+    @MockBean
+    private CourseLiveFeed courseLiveFeed;
+
+    @SpyBean
+    private ApplicationMapper applicationMapper;
+
+    @Test
+    @DisplayName("Doit répondre 503 quand la cloison d'écriture est saturée")
+    void shouldRejectWriteWhenBulkheadIsSaturated() throws Exception {
+        // Given : une première création reste bloquée dans le service
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(courseManagementUseCase.createCourse(anyString(), any(LocalDate.class), anyInt())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new CourseId(1L);
+        });
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(1L)))
+                .thenReturn(new CourseSummary(new CourseId(1L), "Prix A", LocalDate.of(2025, 5, 5), 1, 0L));
+        String body = objectMapper.writeValueAsString(new CreateCourseRequest("Prix A", LocalDate.of(2025, 5, 5), 1));
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(post("/api/courses").contentType(MediaType.APPLICATION_JSON).content(body))
+                        .andReturn().getResponse().getStatus();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        // When & Then
+        try {
+            mockMvc.perform(post("/api/courses").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.code").value("SERVICE_SATURATED"));
+        } finally {
+            release.countDown();
+        }
+        assertEquals(201, first.get(10, TimeUnit.SECONDS));
+    }
+}
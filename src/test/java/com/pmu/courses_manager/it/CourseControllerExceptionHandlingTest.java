@@ -1,18 +1,25 @@
 package com.pmu.courses_manager.it;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pmu.courses_manager.application.api.CourseLiveFeed;
 import com.pmu.courses_manager.application.api.CourseResources;
+import com.pmu.courses_manager.application.api.CourseResponseCache;
 import com.pmu.courses_manager.application.api.request.CreateCourseRequest;
 import com.pmu.courses_manager.application.exception.CourseExisteDejaException;
 import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.CourseId;
 import com.pmu.courses_manager.domain.port.in.CourseManagementUseCase;
 import com.pmu.courses_manager.domain.port.in.ParticipantManagementUseCase;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -20,7 +27,9 @@ import java.time.LocalDate;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Classe de test pour gérer les exceptions du contrôleur
  */
 @WebMvcTest(CourseResources.class)
+@Import({CourseResponseCache.class, SimpleMeterRegistry.class})
 public class CourseControllerExceptionHandlingTest {
 
     @Autowired
@@ -39,6 +49,9 @@ public class CourseControllerExceptionHandlingTest {
     @MockBean
     private CourseManagementUseCase courseManagementUseCase;
 
+    @MockBean
+    private CourseLiveFeed courseLiveFeed;
+
     @MockBean
     private ParticipantManagementUseCase participantManagementUseCase;
     @SpyBean
@@ -61,4 +74,18 @@ public class CourseControllerExceptionHandlingTest {
                 .andExpect(jsonPath("$.code").value("COURSE_DUPLICATED"))
                 .andExpect(jsonPath("$.message").value("Une course avec cette date et ce numéro existe déjà"));
     }
+
+    @Test
+    @DisplayName("Doit répondre 503 avec Retry-After quand la cloison est pleine")
+    void shouldHandleBulkheadFullException() throws Exception {
+        // Given
+        when(courseManagementUseCase.getCourseSummaryById(any(CourseId.class)))
+                .thenThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("courseReads")));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("SERVICE_SATURATED"));
+    }
 }
@@ -2,18 +2,33 @@ package com.pmu.courses_manager.it;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pmu.courses_manager.application.api.CourseEvictedEvent;
+import com.pmu.courses_manager.application.api.CourseImportResources;
+import com.pmu.courses_manager.application.api.CourseLiveFeed;
 import com.pmu.courses_manager.application.api.CourseResources;
+import com.pmu.courses_manager.application.api.CourseResponseCache;
 import com.pmu.courses_manager.application.api.request.CreateCourseRequest;
 import com.pmu.courses_manager.application.api.request.CreateParticipantRequest;
+import com.pmu.courses_manager.application.api.request.CreateParticipantsRequest;
+import com.pmu.courses_manager.application.api.request.ImportCourseRequest;
+import com.pmu.courses_manager.application.api.request.ImportCoursesRequest;
 import com.pmu.courses_manager.application.api.request.UpdateCourseRequest;
 import com.pmu.courses_manager.application.exception.CourseInexistanteException;
+import com.pmu.courses_manager.application.exception.CourseVersionMismatchException;
 import com.pmu.courses_manager.application.mapper.ApplicationMapper;
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+import com.pmu.courses_manager.domain.model.CourseImportResult;
+import com.pmu.courses_manager.domain.model.CoursePage;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.model.ParticipantId;
+import com.pmu.courses_manager.domain.port.in.CourseImportUseCase;
 import com.pmu.courses_manager.domain.port.in.CourseManagementUseCase;
 import com.pmu.courses_manager.domain.port.in.ParticipantManagementUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,23 +36,40 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Tests d'intégration pour le contrôleur REST des courses
  */
-@WebMvcTest(CourseResources.class)
+@WebMvcTest({CourseResources.class, CourseImportResources.class})
+@Import({CourseResponseCache.class, SimpleMeterRegistry.class})
 public class CourseControllerIntegrationTest {
 
     @Autowired
@@ -52,10 +84,20 @@ public class CourseControllerIntegrationTest {
     @MockBean
     private ParticipantManagementUseCase participantManagementUseCase;
 
+    @MockBean
+    private CourseLiveFeed courseLiveFeed;
+
+    @MockBean
+    private CourseImportUseCase courseImportUseCase;
+
     @SpyBean
     private ApplicationMapper applicationMapper;
 
+    @Autowired
+    private CourseResponseCache responseCache;
+
     private Course testCourse;
+    private CourseSummary testSummary;
     private Participant testParticipant;
 
     @BeforeEach
@@ -67,6 +109,8 @@ public class CourseControllerIntegrationTest {
         courseIdField.set(testCourse, new CourseId(1L));
         courseIdField.setAccessible(false);
 
+        testSummary = new CourseSummary(new CourseId(1L), "Course Test", LocalDate.of(2025, 5, 5), 1);
+
         testParticipant = testCourse.addParticipant("Doe", 42);
 
         // Simuler l'ID du participant
@@ -74,6 +118,9 @@ public class CourseControllerIntegrationTest {
         participantIdField.setAccessible(true);
         participantIdField.set(testParticipant, new ParticipantId(99L));
         participantIdField.setAccessible(false);
+
+        // Le cache de réponses est partagé par les tests du contexte
+        responseCache.onCourseEvicted(CourseEvictedEvent.all());
     }
 
     @Test
@@ -85,7 +132,7 @@ public class CourseControllerIntegrationTest {
         CourseId courseId = new CourseId(1L);
         when(courseManagementUseCase.createCourse(anyString(), any(LocalDate.class), anyInt()))
                 .thenReturn(courseId);
-        when(courseManagementUseCase.getCourseById(courseId)).thenReturn(testCourse);
+        when(courseManagementUseCase.getCourseSummaryById(courseId)).thenReturn(testSummary);
 
         // When & Then
         mockMvc.perform(post("/api/courses")
@@ -98,7 +145,7 @@ public class CourseControllerIntegrationTest {
 
         verify(courseManagementUseCase).createCourse(
                 request.nom(), request.date(), request.numero());
-        verify(courseManagementUseCase).getCourseById(courseId);
+        verify(courseManagementUseCase).getCourseSummaryById(courseId);
     }
 
     @Test
@@ -122,7 +169,7 @@ public class CourseControllerIntegrationTest {
         // Given
         UpdateCourseRequest request = new UpdateCourseRequest("Course Mise à Jour", LocalDate.of(2025, 7, 7), 3);
 
-        when(courseManagementUseCase.getCourseById(new CourseId(1L))).thenReturn(testCourse);
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(1L))).thenReturn(testSummary);
 
         // When & Then
         mockMvc.perform(put("/api/courses/1")
@@ -132,8 +179,44 @@ public class CourseControllerIntegrationTest {
                 .andExpect(jsonPath("$.id").value(1));
 
         verify(courseManagementUseCase).updateCourse(
-                new CourseId(1L), request.nom(), request.date(), request.numero());
-        verify(courseManagementUseCase).getCourseById(new CourseId(1L));
+                new CourseId(1L), request.nom(), request.date(), request.numero(), null);
+        verify(courseManagementUseCase).getCourseSummaryById(new CourseId(1L));
+    }
+
+    @Test
+    @DisplayName("Doit transmettre la version de If-Match et renvoyer le nouvel ETag")
+    void shouldUpdateCourseWithIfMatch() throws Exception {
+        // Given
+        UpdateCourseRequest request = new UpdateCourseRequest("Course Mise à Jour", null, null);
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(1L)))
+                .thenReturn(new CourseSummary(new CourseId(1L), "Course Mise à Jour", LocalDate.of(2025, 5, 5), 1, 8L));
+
+        // When & Then
+        mockMvc.perform(put("/api/courses/1")
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
+
+        verify(courseManagementUseCase).updateCourse(new CourseId(1L), request.nom(), null, null, 7L);
+    }
+
+    @Test
+    @DisplayName("Doit répondre 412 quand la version de If-Match n'est plus la version courante")
+    void shouldRejectUpdateOnStaleIfMatch() throws Exception {
+        // Given
+        UpdateCourseRequest request = new UpdateCourseRequest("Course Mise à Jour", null, null);
+        doThrow(new CourseVersionMismatchException("La course 1 a été modifiée (version 8)"))
+                .when(courseManagementUseCase).updateCourse(new CourseId(1L), request.nom(), null, null, 7L);
+
+        // When & Then
+        mockMvc.perform(put("/api/courses/1")
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("COURSE_VERSION_MISMATCH"));
     }
 
     @Test
@@ -150,7 +233,7 @@ public class CourseControllerIntegrationTest {
     @DisplayName("Doit récupérer une course par son ID")
     void shouldGetCourseById() throws Exception {
         // Given
-        when(courseManagementUseCase.getCourseById(new CourseId(1L))).thenReturn(testCourse);
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(1L))).thenReturn(testSummary);
 
         // When & Then
         mockMvc.perform(get("/api/courses/1"))
@@ -160,14 +243,56 @@ public class CourseControllerIntegrationTest {
                 .andExpect(jsonPath("$.date").value("2025-05-05"))
                 .andExpect(jsonPath("$.numero").value(1));
 
-        verify(courseManagementUseCase).getCourseById(new CourseId(1L));
+        verify(courseManagementUseCase).getCourseSummaryById(new CourseId(1L));
+    }
+
+    @Test
+    @DisplayName("Doit exposer la version de la course en ETag")
+    void shouldExposeVersionAsETag() throws Exception {
+        // Given
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(1L)))
+                .thenReturn(new CourseSummary(new CourseId(1L), "Course Test", LocalDate.of(2025, 5, 5), 1, 3L));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    @DisplayName("Doit répondre 304 sans charger la course quand l'ETag est à jour")
+    void shouldAnswerNotModifiedFromVersionLookup() throws Exception {
+        // Given
+        when(courseManagementUseCase.getCourseVersion(new CourseId(1L))).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1/participants").header(HttpHeaders.IF_NONE_MATCH, "\"3-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-gzip\""));
+
+        verify(courseManagementUseCase, never()).getCourseById(any(CourseId.class));
+    }
+
+    @Test
+    @DisplayName("Doit renvoyer le corps quand l'ETag du client est périmé")
+    void shouldAnswerFullBodyOnStaleETag() throws Exception {
+        // Given
+        when(courseManagementUseCase.getCourseVersion(new CourseId(1L))).thenReturn(4L);
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(1L)))
+                .thenReturn(new CourseSummary(new CourseId(1L), "Course Test", LocalDate.of(2025, 5, 5), 1, 4L));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.nom").value("Course Test"));
     }
 
     @Test
     @DisplayName("Doit retourner une erreur quand la course n'existe pas")
     void shouldReturnErrorWhenCourseDoesNotExist() throws Exception {
         // Given
-        when(courseManagementUseCase.getCourseById(new CourseId(999L)))
+        when(courseManagementUseCase.getCourseSummaryById(new CourseId(999L)))
                 .thenThrow(new CourseInexistanteException("Course non trouvée avec l'id : 999"));
 
         // When & Then
@@ -175,22 +300,57 @@ public class CourseControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("COURSE_NOT_FOUND"));
 
-        verify(courseManagementUseCase).getCourseById(new CourseId(999L));
+        verify(courseManagementUseCase).getCourseSummaryById(new CourseId(999L));
     }
 
     @Test
-    @DisplayName("Doit récupérer toutes les courses")
-    void shouldGetAllCourses() throws Exception {
+    @DisplayName("Doit récupérer la première page des courses")
+    void shouldGetFirstPageOfCourses() throws Exception {
         // Given
-        when(courseManagementUseCase.getAllCourses()).thenReturn(Arrays.asList(testCourse));
+        CourseCursor next = CourseCursor.after(testSummary);
+        when(courseManagementUseCase.getCourses(null, 50))
+                .thenReturn(new CoursePage(Arrays.asList(testSummary), next));
 
         // When & Then
         mockMvc.perform(get("/api/courses"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].nom").value("Course Test"));
+                .andExpect(jsonPath("$.courses[0].id").value(1))
+                .andExpect(jsonPath("$.courses[0].nom").value("Course Test"))
+                .andExpect(jsonPath("$.next").value(next.encode()));
 
-        verify(courseManagementUseCase).getAllCourses();
+        verify(courseManagementUseCase).getCourses(null, 50);
+    }
+
+    @Test
+    @DisplayName("Doit récupérer la page suivante à partir du curseur")
+    void shouldGetNextPageFromCursor() throws Exception {
+        // Given
+        CourseCursor cursor = CourseCursor.after(testSummary);
+        when(courseManagementUseCase.getCourses(cursor, 10))
+                .thenReturn(new CoursePage(List.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("cursor", cursor.encode())
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses").isEmpty())
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        verify(courseManagementUseCase).getCourses(cursor, 10);
+    }
+
+    @Test
+    @DisplayName("Doit refuser un curseur de pagination invalide avec une erreur 400")
+    void shouldRejectMalformedCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("cursor", "pas-un-curseur")
+                        .param("size", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+
+        verifyNoInteractions(courseManagementUseCase);
     }
 
     @Test
@@ -218,5 +378,224 @@ public class CourseControllerIntegrationTest {
                 new CourseId(1L), request.nom());
         verify(participantManagementUseCase).getParticipantById(participantId);
     }
-}
 
+    @Test
+    @DisplayName("Doit inscrire plusieurs participants en une requête")
+    void shouldAddParticipantsInBulk() throws Exception {
+        // Given
+        CreateParticipantsRequest request = new CreateParticipantsRequest(List.of(
+                new CreateParticipantRequest("Doe"),
+                new CreateParticipantRequest("Roe")));
+
+        when(participantManagementUseCase.addParticipants(new CourseId(1L), List.of("Doe", "Roe")))
+                .thenReturn(List.of(
+                        Participant.reconstitute(new ParticipantId(1L), "Doe", 1),
+                        Participant.reconstitute(new ParticipantId(2L), "Roe", 2)));
+
+        // When & Then
+        mockMvc.perform(post("/api/courses/1/participants/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].dossard").value(1))
+                .andExpect(jsonPath("$[1].nom").value("Roe"))
+                .andExpect(jsonPath("$[1].dossard").value(2));
+    }
+
+    @Test
+    @DisplayName("Doit rejeter une inscription groupée vide")
+    void shouldRejectEmptyBulkRegistration() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/courses/1/participants/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateParticipantsRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(participantManagementUseCase, never()).addParticipants(any(CourseId.class), anyList());
+    }
+
+    @Test
+    @DisplayName("Doit servir la liste des participants depuis le cache de réponses")
+    void shouldServeParticipantsFromResponseCache() throws Exception {
+        // Given
+        when(courseManagementUseCase.getCourseById(new CourseId(1L))).thenReturn(testCourse);
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/courses/1/participants"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[0].nom").value("Doe"))
+                    .andExpect(jsonPath("$[0].dossard").value(42));
+        }
+        verify(courseManagementUseCase, times(1)).getCourseById(new CourseId(1L));
+    }
+
+    @Test
+    @DisplayName("Doit reconstruire la réponse après l'éviction de la course")
+    void shouldRebuildResponseAfterEviction() throws Exception {
+        // Given
+        Course emptyCourse = Course.reconstitute(new CourseId(1L), "Course Test", LocalDate.of(2025, 5, 5), 1, 2L, List.of());
+        when(courseManagementUseCase.getCourseById(new CourseId(1L))).thenReturn(testCourse, emptyCourse);
+        mockMvc.perform(get("/api/courses/1/participants")).andExpect(status().isOk());
+
+        // When
+        responseCache.onCourseEvicted(new CourseEvictedEvent(new CourseId(1L)));
+
+        // Then
+        mockMvc.perform(get("/api/courses/1/participants"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Doit servir la variante gzip quand le client l'accepte")
+    void shouldServeGzipVariant() throws Exception {
+        // Given
+        List<Participant> participants = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> Participant.reconstitute(new ParticipantId((long) i), "Participant " + i, i))
+                .toList();
+        when(courseManagementUseCase.getCourseById(new CourseId(1L)))
+                .thenReturn(Course.reconstitute(new CourseId(1L), "Course Test", LocalDate.of(2025, 5, 5), 1, 1L, participants));
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/courses/1/participants")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-gzip\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            List<?> decoded = objectMapper.readValue(in, List.class);
+            assertEquals(100, decoded.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Doit respecter les poids de l'en-tête Accept-Encoding")
+    void shouldHonourAcceptEncodingQualities() throws Exception {
+        // Given
+        List<Participant> participants = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> Participant.reconstitute(new ParticipantId((long) i), "Participant " + i, i))
+                .toList();
+        when(courseManagementUseCase.getCourseById(new CourseId(1L)))
+                .thenReturn(Course.reconstitute(new CourseId(1L), "Course Test", LocalDate.of(2025, 5, 5), 1, 1L, participants));
+
+        // When & Then
+        for (String accepted : List.of("*", "gzip;q=0.5", "GZIP; Q=1", "deflate, *;q=0.1", "*;q=0, gzip")) {
+            mockMvc.perform(get("/api/courses/1/participants").header(HttpHeaders.ACCEPT_ENCODING, accepted))
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        }
+        for (String refused : List.of("gzip;q=0", "gzip; q=0.000", "*;q=0", "deflate", "gzip;q=0, *", "gzip;q=abc")) {
+            mockMvc.perform(get("/api/courses/1/participants").header(HttpHeaders.ACCEPT_ENCODING, refused))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        }
+    }
+
+    @Test
+    @DisplayName("Doit abonner le client au flux en direct avec les participants lus hors cache")
+    void shouldSubscribeToLiveFeedWithCurrentParticipants() throws Exception {
+        // Given : l'état initial est lu par le flux, une fois l'abonné inscrit
+        CourseId courseId = new CourseId(1L);
+        List<Participant> participants = List.of(Participant.reconstitute(new ParticipantId(1L), "Participant Test", 1));
+        when(courseManagementUseCase.getLatestCourseById(courseId)).thenReturn(Course.reconstitute(
+                courseId, "Course Test", LocalDate.of(2025, 5, 5), 1, 1L, participants));
+        when(courseLiveFeed.subscribe(eq(courseId), any())).thenAnswer(invocation -> {
+            Supplier<Collection<Participant>> snapshot = invocation.getArgument(1);
+            assertEquals(Set.copyOf(participants), Set.copyOf(snapshot.get()));
+            return new SseEmitter();
+        });
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        verify(courseManagementUseCase).getLatestCourseById(courseId);
+        verify(courseManagementUseCase, never()).getCourseById(any(CourseId.class));
+    }
+
+    @Test
+    @DisplayName("Doit refuser l'abonnement au flux d'une course inexistante")
+    void shouldRejectLiveFeedForUnknownCourse() throws Exception {
+        // Given
+        when(courseManagementUseCase.getLatestCourseById(new CourseId(999L)))
+                .thenThrow(new CourseInexistanteException("Course non trouvée avec l'id : 999"));
+        when(courseLiveFeed.subscribe(eq(new CourseId(999L)), any())).thenAnswer(invocation -> {
+            Supplier<Collection<Participant>> snapshot = invocation.getArgument(1);
+            snapshot.get();
+            return new SseEmitter();
+        });
+
+        // When & Then : l'échec de lecture de l'état initial remonte avant l'ouverture du flux
+        mockMvc.perform(get("/api/courses/999/events").accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Doit importer un programme JSON et renvoyer un résultat par ligne et par course")
+    void shouldImportRaceCardAndStreamResults() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2025, 5, 5);
+        Course created = Course.reconstitute(new CourseId(7L), "Prix A", date, 1, 0L,
+                List.of(Participant.reconstitute(new ParticipantId(1L), "Cheval", 1)));
+        CourseImportItem duplicated = new CourseImportItem("Prix B", date, 2, List.of());
+        when(courseImportUseCase.importCourses(anyList())).thenReturn(List.of(
+                CourseImportResult.created(0, created),
+                CourseImportResult.rejected(1, duplicated, CourseImportResult.COURSE_DUPLICATED, "Course existante")));
+        ImportCoursesRequest request = new ImportCoursesRequest(List.of(
+                new ImportCourseRequest("Prix A", date, 1, List.of(new CreateParticipantRequest("Cheval"))),
+                new ImportCourseRequest("Prix B", date, 2, null)));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/courses/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(7L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("CREATED", objectMapper.readTree(lines[0]).get("status").asText());
+        assertEquals("COURSE_DUPLICATED", objectMapper.readTree(lines[1]).get("code").asText());
+        verify(courseImportUseCase).importCourses(List.of(
+                new CourseImportItem("Prix A", date, 1, List.of("Cheval")),
+                duplicated));
+    }
+
+    @Test
+    @DisplayName("Doit regrouper les lignes d'un programme CSV par course, dans l'ordre des dossards")
+    void shouldImportCsvRaceCardGroupedByCourse() throws Exception {
+        // Given
+        when(courseImportUseCase.importCourses(anyList())).thenReturn(List.of());
+        String csv = "date;numero;nom;participant\n" +
+                "2025-05-05;1;\"Prix; A\";Cheval 1\n" +
+                "2025-05-05;2;Prix B;\n" +
+                "2025-05-05;1;\"Prix; A\";Cheval 2\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/courses/import").contentType("text/csv").content(csv))
+                .andExpect(request().asyncStarted());
+        LocalDate date = LocalDate.of(2025, 5, 5);
+        verify(courseImportUseCase).importCourses(List.of(
+                new CourseImportItem("Prix; A", date, 1, List.of("Cheval 1", "Cheval 2")),
+                new CourseImportItem("Prix B", date, 2, List.of())));
+    }
+
+    @Test
+    @DisplayName("Doit refuser un programme CSV sans les colonnes obligatoires")
+    void shouldRejectCsvRaceCardWithoutRequiredColumns() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/courses/import").contentType("text/csv").content("date,numero\n2025-05-05,1\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_IMPORT"));
+        verify(courseImportUseCase, never()).importCourses(anyList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.pmu.courses_manager.it;
+
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxPartitionMaintenance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration du cycle de vie de l'outbox partitionnée, sur un vrai PostgreSQL
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OutboxPartitionMaintenanceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS outbox CASCADE");
+        new ResourceDatabasePopulator(new ClassPathResource("db/outbox/schema-postgresql.sql")).execute(dataSource);
+        maintenance = new OutboxPartitionMaintenance(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                Duration.ofDays(7), 2, "drop", true);
+    }
+
+    private static String partition(LocalDate day) {
+        return "outbox_p" + DateTimeFormatter.BASIC_ISO_DATE.format(day);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'outbox'",
+                String.class);
+    }
+
+    private void insert(LocalDateTime createdAt, boolean sent) {
+        jdbcTemplate.update("INSERT INTO outbox (id, topic, aggregate_key, key_hash, payload, content_type, created_at, sent) " +
+                        "VALUES (?, 'course-created', '1', 1, ?, 'application/json', ?, ?)",
+                UUID.randomUUID(), new byte[]{'{', '}'}, Timestamp.valueOf(createdAt), sent);
+    }
+
+    private long count(String table, String condition) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE " + condition, Long.class);
+    }
+
+    @Test
+    @DisplayName("Doit créer à l'avance les partitions des prochains jours")
+    void shouldCreateUpcomingPartitions() {
+        // When
+        maintenance.maintain();
+        maintenance.maintain();
+
+        // Then
+        LocalDate today = LocalDate.now();
+        assertTrue(partitions().containsAll(List.of(
+                partition(today), partition(today.plusDays(1)), partition(today.plusDays(2)), "outbox_default")));
+        insert(LocalDateTime.now(), false);
+        assertEquals(1, count(partition(today), "true"));
+    }
+
+    @Test
+    @DisplayName("Doit supprimer les partitions expirées, sauf celles contenant des événements non envoyés")
+    void shouldDropExpiredPartitionsWithoutPendingEvents() {
+        // Given
+        LocalDate expired = LocalDate.now().minusDays(10);
+        LocalDate pending = LocalDate.now().minusDays(9);
+        for (LocalDate day : List.of(expired, pending)) {
+            jdbcTemplate.execute("CREATE TABLE " + partition(day) + " PARTITION OF outbox " +
+                    "FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+        }
+        insert(expired.atTime(12, 0), true);
+        insert(pending.atTime(12, 0), false);
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        assertFalse(partitions().contains(partition(expired)));
+        assertTrue(partitions().contains(partition(pending)));
+        assertEquals(1, count("outbox", "sent = false"));
+    }
+
+    @Test
+    @DisplayName("Doit purger les lignes envoyées et expirées de la partition par défaut")
+    void shouldPurgeExpiredSentRowsFromDefaultPartition() {
+        // Given : aucune partition journalière ne couvre ces dates
+        insert(LocalDateTime.now().minusDays(30), true);
+        insert(LocalDateTime.now().minusDays(30), false);
+        insert(LocalDateTime.now().plusDays(30), true);
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        assertEquals(0, count("outbox_default", "sent = true AND created_at < now()"));
+        assertEquals(1, count("outbox_default", "sent = false"));
+        assertEquals(1, count("outbox_default", "created_at > now()"));
+    }
+}
@@ -0,0 +1,248 @@
+package com.pmu.courses_manager.unit;
+
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.ParticipantPersistencePort;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.CachingCoursePersistenceAdapter;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.CachingParticipantPersistenceAdapter;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.CourseCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour le cache des lectures de course
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingCoursePersistenceAdapterTest {
+
+    private static final CourseId COURSE_ID = new CourseId(1L);
+    private static final LocalDate DATE = LocalDate.of(2026, 6, 1);
+
+    @Mock
+    private CoursePersistencePort delegate;
+
+    @Mock
+    private ParticipantPersistencePort participantDelegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingCoursePersistenceAdapter adapter;
+    private CachingParticipantPersistenceAdapter participantAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CourseCache courseCache = new CourseCache(100, Duration.ofMinutes(10), meterRegistry, event -> {});
+        adapter = new CachingCoursePersistenceAdapter(delegate, courseCache, meterRegistry);
+        participantAdapter = new CachingParticipantPersistenceAdapter(participantDelegate, courseCache);
+    }
+
+    private static Course course(String nom) {
+        Course course = Course.reconstitute(COURSE_ID, nom, DATE, 1);
+        course.addParticipant("Cheval 1", 1);
+        return course;
+    }
+
+    @Test
+    @DisplayName("Doit servir la seconde lecture depuis le cache")
+    void shouldServeSecondReadFromCache() {
+        // Given
+        when(delegate.findById(COURSE_ID)).thenReturn(Optional.of(course("Prix")));
+
+        // When
+        adapter.findById(COURSE_ID);
+        Optional<Course> result = adapter.findById(COURSE_ID);
+
+        // Then
+        assertEquals("Prix", result.orElseThrow().getNom());
+        assertEquals(1, result.orElseThrow().getParticipants().size());
+        verify(delegate, times(1)).findById(COURSE_ID);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", CourseCache.COURSES, "result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Ne doit pas exposer l'instance mise en cache aux appelants")
+    void shouldNotShareCachedInstance() {
+        // Given
+        when(delegate.findById(COURSE_ID)).thenReturn(Optional.of(course("Prix")));
+        adapter.findById(COURSE_ID).orElseThrow().updateDetails("Modifié", null, null);
+
+        // When
+        Course result = adapter.findById(COURSE_ID).orElseThrow();
+
+        // Then
+        assertEquals("Prix", result.getNom());
+    }
+
+    @Test
+    @DisplayName("Doit évincer la course à la mise à jour")
+    void shouldEvictOnSave() {
+        // Given
+        when(delegate.findById(COURSE_ID)).thenReturn(Optional.of(course("Prix")), Optional.of(course("Nouveau")));
+        when(delegate.save(any(Course.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        adapter.findById(COURSE_ID);
+
+        // When
+        adapter.save(course("Nouveau"));
+
+        // Then
+        assertEquals("Nouveau", adapter.findById(COURSE_ID).orElseThrow().getNom());
+        verify(delegate, times(2)).findById(COURSE_ID);
+    }
+
+    @Test
+    @DisplayName("Doit évincer la course et son résumé à la suppression")
+    void shouldEvictOnDelete() {
+        // Given
+        when(delegate.findSummaryById(COURSE_ID))
+                .thenReturn(Optional.of(new CourseSummary(COURSE_ID, "Prix", DATE, 1)), Optional.empty());
+        adapter.findSummaryById(COURSE_ID);
+
+        // When
+        adapter.delete(COURSE_ID);
+
+        // Then
+        assertTrue(adapter.findSummaryById(COURSE_ID).isEmpty());
+        assertFalse(adapter.existsById(COURSE_ID));
+    }
+
+    @Test
+    @DisplayName("Doit évincer la course à l'ajout de participants")
+    void shouldEvictOnParticipantAdded() {
+        // Given
+        Course withTwo = course("Prix");
+        withTwo.addParticipant("Cheval 2", 2);
+        when(delegate.findById(COURSE_ID)).thenReturn(Optional.of(course("Prix")), Optional.of(withTwo));
+        adapter.findById(COURSE_ID);
+
+        // When
+        participantAdapter.saveAll(COURSE_ID, List.of(Participant.create("Cheval 2", 2)));
+
+        // Then
+        assertEquals(2, adapter.findById(COURSE_ID).orElseThrow().getParticipants().size());
+    }
+
+    @Test
+    @DisplayName("Ne doit pas republier une valeur chargée avant une éviction concurrente")
+    void shouldDropStaleLoadAfterConcurrentEviction() {
+        // Given : la course est modifiée pendant que la lecture interroge la base
+        when(delegate.findById(COURSE_ID)).thenAnswer(invocation -> {
+            participantAdapter.save(COURSE_ID, Participant.create("Cheval 2", 2));
+            return Optional.of(course("Prix"));
+        }).thenReturn(Optional.of(course("Prix")));
+
+        // When
+        adapter.findById(COURSE_ID);
+        adapter.findById(COURSE_ID);
+
+        // Then
+        verify(delegate, times(2)).findById(COURSE_ID);
+    }
+
+    @Test
+    @DisplayName("Doit regrouper les chargements concurrents d'une même course")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        // Given : le premier chargement reste bloqué tant que les autres lecteurs ne l'ont pas rejoint
+        int readers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(COURSE_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(course("Prix"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+
+        // When
+        List<Future<Optional<Course>>> results = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            results.add(executor.submit(() -> adapter.findById(COURSE_ID)));
+        }
+        Counter coalesced = meterRegistry.get("cache.single-flight.coalesced")
+                .tag("cache", CourseCache.COURSES).counter();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced.count() < readers - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        Set<Course> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Optional<Course>> result : results) {
+            instances.add(result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        executor.shutdown();
+        verify(delegate, times(1)).findById(COURSE_ID);
+        assertEquals(readers - 1, coalesced.count());
+        assertEquals(readers, instances.size());
+    }
+
+    @Test
+    @DisplayName("Doit propager l'échec du chargement et laisser le suivant réessayer")
+    void shouldPropagateLoadFailure() {
+        // Given
+        when(delegate.findById(COURSE_ID))
+                .thenThrow(new IllegalStateException("base indisponible"))
+                .thenReturn(Optional.of(course("Prix")));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> adapter.findById(COURSE_ID));
+        assertTrue(adapter.findById(COURSE_ID).isPresent());
+    }
+
+    @Test
+    @DisplayName("Doit vérifier l'existence sans base quand la course est en cache")
+    void shouldAnswerExistsFromCache() {
+        // Given
+        when(delegate.findSummaryById(COURSE_ID)).thenReturn(Optional.of(new CourseSummary(COURSE_ID, "Prix", DATE, 1)));
+        adapter.findSummaryById(COURSE_ID);
+
+        // When & Then
+        assertTrue(adapter.existsById(COURSE_ID));
+        verify(delegate, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Doit vérifier l'existence en base dans une transaction d'écriture")
+    void shouldCheckExistenceAgainstDatabaseInReadWriteTransaction() {
+        // Given : la course est en cache mais a été supprimée par la transaction en cours
+        when(delegate.findSummaryById(COURSE_ID)).thenReturn(Optional.of(new CourseSummary(COURSE_ID, "Prix", DATE, 1)));
+        adapter.findSummaryById(COURSE_ID);
+        when(delegate.existsById(COURSE_ID)).thenReturn(false);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // When & Then
+            assertFalse(adapter.existsById(COURSE_ID));
+            verify(delegate).existsById(COURSE_ID);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.pmu.courses_manager.unit;
+
+import com.pmu.courses_manager.domain.model.ChangePage;
+import com.pmu.courses_manager.domain.model.CourseChange;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.port.out.ChangeFeedPort;
+import com.pmu.courses_manager.domain.service.ChangeFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour le flux de changements
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    @Mock
+    private ChangeFeedPort changeFeedPort;
+
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new ChangeFeedService(changeFeedPort);
+    }
+
+    private static List<CourseChange> changes(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(sequence -> new CourseChange(
+                        sequence, "course-created", new CourseId(sequence), LocalDateTime.now(), null, null))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Doit renvoyer une page bornée et le curseur du dernier changement")
+    void shouldReturnBoundedPageAndNextCursor() {
+        // Given
+        when(changeFeedPort.findOldestSequence()).thenReturn(OptionalLong.of(1));
+        when(changeFeedPort.findAfter(10, 3)).thenReturn(changes(11, 13));
+
+        // When
+        ChangePage page = changeFeedService.getChanges(10, 2);
+
+        // Then
+        assertEquals(2, page.changes().size());
+        assertEquals(12, page.next());
+        assertTrue(page.hasMore());
+        assertFalse(page.resync());
+    }
+
+    @Test
+    @DisplayName("Doit conserver le curseur quand aucun changement n'est disponible")
+    void shouldKeepCursorWhenNoChange() {
+        // Given
+        when(changeFeedPort.findOldestSequence()).thenReturn(OptionalLong.of(1));
+        when(changeFeedPort.findAfter(anyLong(), anyInt())).thenReturn(List.of());
+
+        // When
+        ChangePage page = changeFeedService.getChanges(42, 100);
+
+        // Then
+        assertTrue(page.changes().isEmpty());
+        assertEquals(42, page.next());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    @DisplayName("Doit demander une resynchronisation quand l'historique a été purgé au-delà du curseur")
+    void shouldRequestResyncWhenCursorIsOlderThanRetention() {
+        // Given
+        when(changeFeedPort.findOldestSequence()).thenReturn(OptionalLong.of(500));
+
+        // When
+        ChangePage page = changeFeedService.getChanges(10, 100);
+
+        // Then
+        assertTrue(page.resync());
+        assertTrue(page.changes().isEmpty());
+        verify(changeFeedPort, never()).findAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Doit reprendre sans resynchronisation depuis le changement précédant le plus ancien conservé")
+    void shouldResumeFromJustBeforeOldestRetained() {
+        // Given
+        when(changeFeedPort.findOldestSequence()).thenReturn(OptionalLong.of(500));
+        when(changeFeedPort.findAfter(499, 101)).thenReturn(changes(500, 501));
+
+        // When
+        ChangePage page = changeFeedService.getChanges(499, 100);
+
+        // Then
+        assertFalse(page.resync());
+        assertEquals(501, page.next());
+    }
+
+    @Test
+    @DisplayName("Doit rejeter un curseur négatif")
+    void shouldRejectNegativeCursor() {
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(-1, 100));
+    }
+}
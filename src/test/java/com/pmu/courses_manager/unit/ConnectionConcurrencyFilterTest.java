@@ -0,0 +1,54 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pmu.courses_manager.infrastructure.configuration.ConnectionConcurrencyFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le limiteur de requêtes simultanées
+ */
+class ConnectionConcurrencyFilterTest {
+
+    @Test
+    @DisplayName("Doit laisser passer les requêtes et rendre la place après chacune")
+    void shouldPassRequestsAndReleasePermit() throws Exception {
+        // Given
+        ConnectionConcurrencyFilter filter = new ConnectionConcurrencyFilter(1, Duration.ZERO, new ObjectMapper());
+
+        // When
+        MockFilterChain first = new MockFilterChain();
+        MockFilterChain second = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/courses"), new MockHttpServletResponse(), first);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/courses"), new MockHttpServletResponse(), second);
+
+        // Then
+        assertNotNull(first.getRequest());
+        assertNotNull(second.getRequest());
+    }
+
+    @Test
+    @DisplayName("Doit répondre 503 avec Retry-After quand aucune place ne se libère à temps")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Given
+        ConnectionConcurrencyFilter filter = new ConnectionConcurrencyFilter(0, Duration.ofMillis(10), new ObjectMapper());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/courses"), response, chain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("SERVICE_SATURATED"));
+        assertNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,190 @@
+package com.pmu.courses_manager.unit;
+
+import com.pmu.courses_manager.application.exception.ImportInvalideException;
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseImportItem;
+import com.pmu.courses_manager.domain.model.CourseImportResult;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.port.in.CourseImportUseCase;
+import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
+import com.pmu.courses_manager.domain.service.CourseImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour l'import de programme
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseImportServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 5);
+
+    @Mock
+    private CoursePersistencePort coursePersistencePort;
+
+    @Mock
+    private OutboxEventPersistencePort outboxEventPersistencePort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CourseImportService courseImportService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        courseImportService = new CourseImportService(coursePersistencePort, outboxEventPersistencePort, transactionTemplate);
+    }
+
+    /**
+     * Simule l'enregistrement : identifiants attribués dans l'ordre, à partir de 100
+     */
+    private void stubSaveAll() {
+        when(coursePersistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Course> courses = invocation.getArgument(0);
+            return IntStream.range(0, courses.size())
+                    .mapToObj(i -> {
+                        Course course = courses.get(i);
+                        return Course.reconstitute(new CourseId(100L + i), course.getNom(), course.getDate(),
+                                course.getNumero(), 0L, course.getParticipants());
+                    })
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Doit créer les courses et leurs participants en un seul lot")
+    void shouldCreateCoursesWithParticipantsInOneBatch() {
+        // Given
+        when(coursePersistencePort.findByDatesAndNumeros(anyCollection(), anyCollection())).thenReturn(List.of());
+        stubSaveAll();
+        List<CourseImportItem> items = List.of(
+                new CourseImportItem("Prix A", DATE, 1, List.of("Cheval 1", "Cheval 2")),
+                new CourseImportItem("Prix B", DATE, 2, List.of()));
+
+        // When
+        List<CourseImportResult> results = courseImportService.importCourses(items);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals(CourseImportResult.Status.CREATED, results.get(0).status());
+        assertEquals(new CourseId(100L), results.get(0).courseId());
+        assertEquals(2, results.get(0).participants());
+        assertEquals(new CourseId(101L), results.get(1).courseId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Course>> saved = ArgumentCaptor.forClass(List.class);
+        verify(coursePersistencePort).saveAll(saved.capture());
+        assertEquals(Set.of(Participant.create("Cheval 1", 1), Participant.create("Cheval 2", 2)),
+                saved.getValue().get(0).getParticipants());
+        verify(coursePersistencePort, times(1)).findByDatesAndNumeros(Set.of(DATE), Set.of(1, 2));
+        verify(outboxEventPersistencePort, times(1)).saveCreatedCourseEvents(anyList());
+    }
+
+    @Test
+    @DisplayName("Doit rejeter individuellement les courses invalides, en double ou déjà existantes")
+    void shouldRejectInvalidDuplicatedAndExistingCourses() {
+        // Given : (lendemain, 1) est renvoyée par la requête ensembliste sans figurer dans l'import
+        when(coursePersistencePort.findByDatesAndNumeros(anyCollection(), anyCollection())).thenReturn(List.of(
+                new CourseSummary(new CourseId(1L), "Existante", DATE, 2, 0L),
+                new CourseSummary(new CourseId(2L), "Autre jour", DATE.plusDays(1), 1, 0L)));
+        stubSaveAll();
+        List<CourseImportItem> items = List.of(
+                new CourseImportItem("Prix A", DATE, 1, List.of()),
+                new CourseImportItem("Prix B", DATE, 2, List.of()),
+                new CourseImportItem("Prix A bis", DATE, 1, List.of()),
+                new CourseImportItem(" ", DATE, 3, List.of()),
+                new CourseImportItem("Prix C", DATE, 4, List.of("")),
+                new CourseImportItem("Prix D", DATE.plusDays(1), 2, List.of()));
+
+        // When
+        List<CourseImportResult> results = courseImportService.importCourses(items);
+
+        // Then
+        assertEquals(CourseImportResult.Status.CREATED, results.get(0).status());
+        assertEquals(CourseImportResult.COURSE_DUPLICATED, results.get(1).code());
+        assertEquals(CourseImportResult.DUPLICATED_IN_IMPORT, results.get(2).code());
+        assertEquals(CourseImportResult.INVALID_COURSE, results.get(3).code());
+        assertEquals(CourseImportResult.INVALID_COURSE, results.get(4).code());
+        assertEquals(CourseImportResult.Status.CREATED, results.get(5).status());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(CourseImportResult::index).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Course>> saved = ArgumentCaptor.forClass(List.class);
+        verify(coursePersistencePort).saveAll(saved.capture());
+        assertEquals(List.of("Prix A", "Prix D"), saved.getValue().stream().map(Course::getNom).toList());
+    }
+
+    @Test
+    @DisplayName("Ne doit rien écrire quand toutes les courses sont rejetées")
+    void shouldNotWriteWhenEveryCourseIsRejected() {
+        // When
+        List<CourseImportResult> results = courseImportService.importCourses(List.of(
+                new CourseImportItem("Prix A", null, 1, List.of())));
+
+        // Then
+        assertEquals(CourseImportResult.Status.REJECTED, results.get(0).status());
+        verify(coursePersistencePort, never()).findByDatesAndNumeros(anyCollection(), anyCollection());
+        verify(coursePersistencePort, never()).saveAll(anyList());
+        verifyNoInteractions(outboxEventPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Doit refuser un import vide ou trop volumineux")
+    void shouldRejectEmptyOrOversizedImport() {
+        List<CourseImportItem> oversized = Collections.nCopies(CourseImportUseCase.MAX_COURSES + 1,
+                new CourseImportItem("Prix", DATE, 1, List.of()));
+
+        assertThrows(ImportInvalideException.class, () -> courseImportService.importCourses(List.of()));
+        assertThrows(ImportInvalideException.class, () -> courseImportService.importCourses(oversized));
+        verifyNoInteractions(coursePersistencePort, outboxEventPersistencePort, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Doit valider un gros programme par lots bornés, sans scinder une course")
+    void shouldCommitLargeImportInBoundedChunks() {
+        // Given : six courses de 1000 participants, soit 6006 lignes
+        when(coursePersistencePort.findByDatesAndNumeros(anyCollection(), anyCollection())).thenReturn(List.of());
+        stubSaveAll();
+        List<String> participants = IntStream.rangeClosed(1, CourseImportUseCase.MAX_PARTICIPANTS)
+                .mapToObj(dossard -> "Cheval " + dossard)
+                .toList();
+        List<CourseImportItem> items = IntStream.rangeClosed(1, 6)
+                .mapToObj(numero -> new CourseImportItem("Prix " + numero, DATE, numero, participants))
+                .toList();
+
+        // When
+        List<CourseImportResult> results = courseImportService.importCourses(items);
+
+        // Then : un premier lot de cinq courses (5005 lignes), puis la dernière, chacun dans sa transaction
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Course>> saved = ArgumentCaptor.forClass(List.class);
+        verify(coursePersistencePort, times(2)).saveAll(saved.capture());
+        assertEquals(List.of(5, 1), saved.getAllValues().stream().map(List::size).toList());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(outboxEventPersistencePort, times(2)).saveCreatedCourseEvents(anyList());
+        assertTrue(results.stream().allMatch(result -> result.status() == CourseImportResult.Status.CREATED));
+    }
+}
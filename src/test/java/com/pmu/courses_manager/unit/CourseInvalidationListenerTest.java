@@ -0,0 +1,89 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.port.out.CourseReadModelPort;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseInvalidatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseInvalidationListener;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.CourseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests unitaires pour l'application des invalidations de course venant des autres instances
+ */
+class CourseInvalidationListenerTest {
+
+    private static final CourseId COURSE_ID = new CourseId(1L);
+
+    private final EventCodec codec = new JacksonEventCodec("application/json",
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final CourseCache courseCache = new CourseCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry(), event -> {});
+    private final CourseReadModelPort courseReadModelPort = mock(CourseReadModelPort.class);
+    private final CourseInvalidationListener listener = new CourseInvalidationListener(
+            new EventCodecs(List.of(codec), "application/json", "application/json"), courseCache, courseReadModelPort);
+
+    private void cacheCourse() {
+        courseCache.putCourse(Course.reconstitute(COURSE_ID, "Prix", LocalDate.of(2025, 5, 5), 1),
+                courseCache.generation(COURSE_ID));
+    }
+
+    @Test
+    @DisplayName("Doit évincer la course du cache et de la projection")
+    void shouldEvictInvalidatedCourse() {
+        // Given
+        cacheCourse();
+
+        // When
+        listener.onCoursesInvalidated(List.of(new ConsumerRecord<>("course-invalidations", 0, 0, "1",
+                codec.encode(new CourseInvalidatedEvent(1L, "Prix", LocalDate.of(2025, 5, 5), 1, 3L)))));
+
+        // Then
+        assertTrue(courseCache.getCourse(COURSE_ID).isEmpty());
+        verify(courseReadModelPort).invalidate(COURSE_ID, 3L);
+    }
+
+    @Test
+    @DisplayName("Doit ignorer un message illisible sans interrompre le lot")
+    void shouldSkipUndecodableRecords() {
+        // Given
+        cacheCourse();
+
+        // When
+        listener.onCoursesInvalidated(List.of(
+                new ConsumerRecord<>("course-invalidations", 0, 0, "x", "{".getBytes()),
+                new ConsumerRecord<>("course-invalidations", 0, 1, "1", codec.encode(new CourseInvalidatedEvent(1L)))));
+
+        // Then
+        assertTrue(courseCache.getCourse(COURSE_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Doit vider le cache à l'affectation des partitions")
+    void shouldClearCacheOnPartitionAssignment() {
+        // Given
+        cacheCourse();
+
+        // When
+        listener.onPartitionsAssigned(Map.of(), null);
+
+        // Then
+        assertFalse(courseCache.contains(COURSE_ID));
+    }
+}
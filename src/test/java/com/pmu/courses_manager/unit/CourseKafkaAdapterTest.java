@@ -0,0 +1,71 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseKafkaAdapter;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la publication directe des événements
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseKafkaAdapterTest {
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private CircuitBreaker circuitBreaker;
+    private CourseKafkaAdapter courseKafkaAdapter;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .build());
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(CourseKafkaAdapter.KAFKA_PUBLISH_CIRCUIT_BREAKER);
+        EventCodecs eventCodecs = new EventCodecs(
+                List.of(new JacksonEventCodec("application/json", new ObjectMapper().registerModule(new JavaTimeModule()))),
+                "application/json", "application/json");
+        courseKafkaAdapter = new CourseKafkaAdapter(kafkaTemplate, eventCodecs, circuitBreakerRegistry);
+    }
+
+    @Test
+    @DisplayName("Doit rendre la permission au disjoncteur quand l'envoi échoue de façon synchrone")
+    void shouldReleasePermissionWhenSendThrows() {
+        // Given : disjoncteur à demi ouvert, deux appels d'essai autorisés
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenThrow(new SerializationException("métadonnées indisponibles"));
+        Course course = Course.reconstitute(new CourseId(1L), "Prix d'Amérique", LocalDate.of(2025, 1, 26), 7);
+
+        // When
+        assertThrows(RuntimeException.class, () -> courseKafkaAdapter.publishCourseCreated(course));
+        assertThrows(RuntimeException.class, () -> courseKafkaAdapter.publishCourseCreated(course));
+
+        // Then : les deux essais sont comptés en échec, le disjoncteur se rouvre au lieu de rester bloqué à demi ouvert
+        assertEquals(2, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+}
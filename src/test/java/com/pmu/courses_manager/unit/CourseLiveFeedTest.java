@@ -0,0 +1,182 @@
+package com.pmu.courses_manager.unit;
+
+import com.pmu.courses_manager.application.api.CourseLiveFeed;
+import com.pmu.courses_manager.application.mapper.ApplicationMapper;
+import com.pmu.courses_manager.domain.model.CourseActivityEvent;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.model.Participant;
+import com.pmu.courses_manager.domain.model.ParticipantId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la diffusion en direct des changements de course
+ */
+class CourseLiveFeedTest {
+
+    private static final CourseId COURSE_ID = new CourseId(1L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CourseLiveFeed liveFeed(Executor executor, int bufferSize) {
+        return new CourseLiveFeed(executor, new ApplicationMapper(), bufferSize, Duration.ofMinutes(30), meterRegistry);
+    }
+
+    private static CourseActivityEvent participantAdded(int dossard) {
+        return CourseActivityEvent.participantAdded(COURSE_ID,
+                Participant.reconstitute(new ParticipantId((long) dossard), "Cheval " + dossard, dossard));
+    }
+
+    @Test
+    @DisplayName("Doit envoyer l'état initial puis les changements de la course à chaque abonné")
+    void shouldFanOutCourseChangesToSubscribers() {
+        // Given
+        CourseLiveFeed liveFeed = liveFeed(Runnable::run, 16);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherCourse = new RecordingEmitter();
+        liveFeed.subscribe(COURSE_ID, first, List::of);
+        liveFeed.subscribe(COURSE_ID, second, List::of);
+        liveFeed.subscribe(new CourseId(2L), otherCourse, List::of);
+
+        // When
+        liveFeed.onCourseActivity(participantAdded(1));
+        liveFeed.onCourseActivity(CourseActivityEvent.courseUpdated(
+                new CourseSummary(COURSE_ID, "Grand Prix", LocalDate.of(2025, 5, 5), 1)));
+
+        // Then
+        assertEquals(List.of("participants", "participant-added", "course-updated"), first.eventNames());
+        assertEquals(first.eventNames(), second.eventNames());
+        assertEquals(List.of("participants"), otherCourse.eventNames());
+        assertTrue(first.text().contains("ParticipantDto[nom=Cheval 1, dossard=1]"));
+    }
+
+    @Test
+    @DisplayName("Doit déconnecter un abonné trop lent sans retarder les autres")
+    void shouldEvictSlowSubscriber() {
+        // Given : les passes d'écriture de l'abonné lent ne sont jamais exécutées
+        Queue<Runnable> pending = new ArrayDeque<>();
+        CourseLiveFeed liveFeed = liveFeed(pending::add, 4);
+        RecordingEmitter slow = new RecordingEmitter();
+        liveFeed.subscribe(COURSE_ID, slow, List::of);
+
+        // When
+        for (int dossard = 1; dossard <= 4; dossard++) {
+            liveFeed.onCourseActivity(participantAdded(dossard));
+        }
+
+        // Then
+        assertEquals(0, liveFeed.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("live-feed.evictions").counter().count());
+        pending.forEach(Runnable::run);
+        assertTrue(slow.completed);
+        assertTrue(slow.eventNames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Doit clore le flux après avoir transmis la suppression de la course")
+    void shouldCloseStreamAfterCourseDeletion() {
+        // Given
+        CourseLiveFeed liveFeed = liveFeed(Runnable::run, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        liveFeed.subscribe(COURSE_ID, emitter, List::of);
+
+        // When
+        liveFeed.onCourseActivity(CourseActivityEvent.courseDeleted(COURSE_ID));
+        liveFeed.onCourseActivity(participantAdded(1));
+
+        // Then
+        assertEquals(List.of("participants", "course-deleted"), emitter.eventNames());
+        assertTrue(emitter.completed);
+        assertEquals(0, liveFeed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Doit transmettre après l'état initial les changements reçus pendant sa lecture, sans doublon")
+    void shouldFlushChangesReceivedWhileReadingSnapshot() {
+        // Given : une inscription et une modification arrivent pendant la lecture de l'état initial,
+        // l'inscription de Cheval 1 étant déjà visible par la lecture
+        CourseLiveFeed liveFeed = liveFeed(Runnable::run, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        liveFeed.subscribe(COURSE_ID, emitter, () -> {
+            liveFeed.onCourseActivity(participantAdded(1));
+            liveFeed.onCourseActivity(participantAdded(2));
+            liveFeed.onCourseActivity(CourseActivityEvent.courseUpdated(
+                    new CourseSummary(COURSE_ID, "Grand Prix", LocalDate.of(2025, 5, 5), 1)));
+            return List.of(participantAdded(1).participant());
+        });
+        liveFeed.onCourseActivity(participantAdded(3));
+
+        // Then
+        assertEquals(List.of("participants", "participant-added", "course-updated", "participant-added"), emitter.eventNames());
+        assertEquals(1, emitter.text().split("Cheval 1", -1).length - 1);
+        assertTrue(emitter.text().indexOf("Cheval 2") < emitter.text().indexOf("Cheval 3"));
+    }
+
+    @Test
+    @DisplayName("Doit annuler l'abonnement quand la lecture de l'état initial échoue")
+    void shouldUnsubscribeWhenSnapshotFails() {
+        // Given
+        CourseLiveFeed liveFeed = liveFeed(Runnable::run, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> liveFeed.subscribe(COURSE_ID, emitter, () -> {
+            throw new IllegalStateException("base indisponible");
+        }));
+        liveFeed.onCourseActivity(participantAdded(1));
+
+        // Then
+        assertEquals(0, liveFeed.subscriberCount());
+        assertTrue(emitter.eventNames().isEmpty());
+    }
+
+    /**
+     * Émetteur conservant les événements écrits au lieu de les envoyer sur une connexion
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            StringBuilder event = new StringBuilder();
+            items.forEach(item -> event.append(item.getData()));
+            events.add(event.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<String> eventNames() {
+            return events.stream()
+                    .filter(event -> event.startsWith("event:"))
+                    .map(event -> event.substring("event:".length(), event.indexOf('\n')))
+                    .toList();
+        }
+
+        private String text() {
+            return String.join("", events);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CourseSummary;
+import com.pmu.courses_manager.domain.port.out.CourseEventPort;
+import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
+import com.pmu.courses_manager.domain.service.CourseService;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseCreatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseDeletedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseInvalidatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseProjection;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseUpdatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests unitaires pour la projection de lecture des courses
+ */
+class CourseProjectionTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 5);
+    private static final TopicPartition CREATED = new TopicPartition("course-created", 0);
+    private static final TopicPartition UPDATED = new TopicPartition("course-updated", 0);
+    private static final TopicPartition INVALIDATED = new TopicPartition("course-invalidations", 0);
+    private static final String DELETED = "course-deleted";
+
+    private final EventCodec codec = new JacksonEventCodec("application/json",
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final CourseProjection projection = new CourseProjection(
+            new EventCodecs(List.of(codec), "application/json", "application/json"), true);
+
+    private ConsumerRecord<String, byte[]> record(String topic, long offset, Object event) {
+        return new ConsumerRecord<>(topic, 0, offset, "1", codec.encode(event));
+    }
+
+    private ConsumerRecord<String, byte[]> record(String topic, long offset, long timestamp, Object event) {
+        byte[] value = codec.encode(event);
+        return new ConsumerRecord<>(topic, 0, offset, timestamp, TimestampType.CREATE_TIME, 0, value.length, "1", value,
+                new RecordHeaders(), Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Doit projeter les courses créées")
+    void shouldProjectCreatedCourses() {
+        // Given
+        CourseId courseId = new CourseId(1L);
+
+        // When
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // Then
+        assertEquals(Optional.of(new CourseSummary(courseId, "Prix", DATE, 3, 0L)), projection.findSummaryById(courseId));
+    }
+
+    @Test
+    @DisplayName("Ne doit rien servir pour une course invalidée ou inconnue")
+    void shouldServeNothingAfterInvalidation() {
+        // Given
+        CourseId courseId = new CourseId(1L);
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // When
+        projection.invalidate(courseId, null);
+
+        // Then
+        assertTrue(projection.findSummaryById(courseId).isEmpty());
+        assertTrue(projection.findSummaryById(new CourseId(2L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Une création consommée après une modification ne doit pas écraser le résumé modifié")
+    void shouldKeepUpdatedSummaryWhenCreationArrivesLate() {
+        // Given
+        CourseId courseId = new CourseId(1L);
+
+        // When
+        projection.onCoursesUpdated(List.of(record("course-updated", 0, new CourseUpdatedEvent(1L, "Grand Prix", DATE, 4, 1L))));
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // Then
+        assertEquals(Optional.of(new CourseSummary(courseId, "Grand Prix", DATE, 4, 1L)), projection.findSummaryById(courseId));
+    }
+
+    @Test
+    @DisplayName("Une course supprimée ne doit pas réapparaître avec des événements retardataires")
+    void shouldNotResurrectDeletedCourse() {
+        // Given
+        CourseId courseId = new CourseId(1L);
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // When
+        projection.onCoursesDeleted(List.of(record("course-deleted", 0, new CourseDeletedEvent(1L))));
+        projection.onCoursesUpdated(List.of(record("course-updated", 0, new CourseUpdatedEvent(1L, "Grand Prix", DATE, 4, 1L))));
+        projection.onCoursesCreated(List.of(record("course-created", 1, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // Then
+        assertTrue(projection.findSummaryById(courseId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ne doit pas servir un résumé sans version, qui ne fournirait pas d'ETag")
+    void shouldNotServeUnversionedSummary() {
+        // When : événement publié avant l'introduction de la version
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3))));
+
+        // Then
+        assertTrue(projection.findSummaryById(new CourseId(1L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Doit suivre la version des inscriptions portée par les invalidations")
+    void shouldFollowRegistrationVersionsFromInvalidations() {
+        // Given
+        CourseId courseId = new CourseId(1L);
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // When : deux inscriptions, la modification intermédiaire arrivant après sur son propre topic
+        projection.onCoursesInvalidated(List.of(
+                record("course-invalidations", 0, new CourseInvalidatedEvent(1L, "Prix", DATE, 3, 1L)),
+                record("course-invalidations", 1, new CourseInvalidatedEvent(1L, "Grand Prix", DATE, 3, 3L))));
+        projection.onCoursesUpdated(List.of(record("course-updated", 0, new CourseUpdatedEvent(1L, "Grand Prix", DATE, 3, 2L))));
+
+        // Then
+        assertEquals(Optional.of(new CourseSummary(courseId, "Grand Prix", DATE, 3, 3L)), projection.findSummaryById(courseId));
+    }
+
+    @Test
+    @DisplayName("Ne doit rien servir en deçà de la version signalée par une invalidation")
+    void shouldNotServeSummaryOlderThanInvalidatedVersion() {
+        // Given
+        CourseId courseId = new CourseId(1L);
+        projection.onCoursesCreated(List.of(record("course-created", 0, new CourseCreatedEvent(1L, "Prix", DATE, 3, 0L))));
+
+        // When : la modification locale en version 1 n'est pas encore consommée
+        projection.invalidate(courseId, 1L);
+
+        // Then
+        assertTrue(projection.findSummaryById(courseId).isEmpty());
+
+        // When
+        projection.onCoursesUpdated(List.of(record("course-updated", 0, new CourseUpdatedEvent(1L, "Grand Prix", DATE, 3, 1L))));
+
+        // Then
+        assertEquals(Optional.of(new CourseSummary(courseId, "Grand Prix", DATE, 3, 1L)), projection.findSummaryById(courseId));
+    }
+
+    @Test
+    @DisplayName("Avec la projection activée, le résumé servi doit porter sa version pour l'ETag")
+    void shouldServeVersionedSummaryThroughCourseService() {
+        // Given
+        CoursePersistencePort coursePersistencePort = mock(CoursePersistencePort.class);
+        CourseService courseService = new CourseService(coursePersistencePort, mock(CourseEventPort.class),
+                mock(OutboxEventPersistencePort.class), projection);
+        projection.onCoursesUpdated(List.of(record("course-updated", 0, new CourseUpdatedEvent(1L, "Grand Prix", DATE, 3, 4L))));
+
+        // When
+        CourseSummary summary = courseService.getCourseSummaryById(new CourseId(1L));
+
+        // Then
+        assertEquals(4L, summary.version());
+        verifyNoInteractions(coursePersistencePort);
+    }
+
+    @Test
+    @DisplayName("Doit relire chaque partition depuis le début lors de sa première affectation seulement")
+    void shouldReplayPartitionsOnFirstAssignmentOnly() {
+        // Given
+        ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+
+        // When
+        projection.onPartitionsAssigned(Map.of(CREATED, 5L), callback);
+        projection.onPartitionsRevoked(List.of(CREATED));
+        projection.onPartitionsAssigned(Map.of(CREATED, 5L, UPDATED, 0L), callback);
+
+        // Then
+        verify(callback).seekToBeginning(List.of(CREATED));
+        verify(callback).seekToBeginning(List.of(UPDATED));
+        verifyNoMoreInteractions(callback);
+    }
+
+    @Test
+    @DisplayName("Doit oublier une suppression une fois dépassée par toutes les partitions de création et de modification")
+    void shouldEvictTombstoneOncePassedByEveryGuardedPartition() {
+        // Given
+        projection.onPartitionsAssigned(Map.of(CREATED, 0L, UPDATED, 0L, INVALIDATED, 0L, new TopicPartition(DELETED, 0), 0L),
+                mock(ConsumerSeekAware.ConsumerSeekCallback.class));
+        projection.onCoursesInvalidated(List.of(record(INVALIDATED.topic(), 0, 300L, new CourseInvalidatedEvent(3L))));
+        projection.onCoursesDeleted(List.of(record(DELETED, 0, 200L, new CourseDeletedEvent(1L))));
+
+        // When : seule la création a dépassé la suppression, un événement retardataire reste écarté
+        projection.onCoursesCreated(List.of(record(CREATED.topic(), 0, 300L, new CourseCreatedEvent(2L, "Autre", DATE, 1, 0L))));
+        projection.onCoursesUpdated(List.of(record(UPDATED.topic(), 0, 150L, new CourseUpdatedEvent(1L, "Retard", DATE, 4, 1L))));
+
+        // Then
+        assertTrue(projection.findSummaryById(new CourseId(1L)).isEmpty());
+
+        // When : la modification la dépasse à son tour, la suppression est oubliée
+        projection.onCoursesUpdated(List.of(record(UPDATED.topic(), 1, 300L, new CourseUpdatedEvent(2L, "Autre", DATE, 2, 1L))));
+        projection.onCoursesCreated(List.of(record(CREATED.topic(), 1, 400L, new CourseCreatedEvent(1L, "Nouvelle", DATE, 5, 0L))));
+
+        // Then
+        assertEquals(Optional.of(new CourseSummary(new CourseId(1L), "Nouvelle", DATE, 5, 0L)),
+                projection.findSummaryById(new CourseId(1L)));
+    }
+
+    @Test
+    @DisplayName("Une partition inactive doit être considérée à jour pour l'oubli des suppressions")
+    void shouldTreatIdlePartitionsAsCaughtUp() {
+        // Given : aucune modification n'est publiée après la suppression
+        long deletedAt = System.currentTimeMillis() - 60_000;
+        projection.onPartitionsAssigned(Map.of(CREATED, 0L, UPDATED, 0L, INVALIDATED, 0L),
+                mock(ConsumerSeekAware.ConsumerSeekCallback.class));
+        projection.onCoursesDeleted(List.of(record(DELETED, 0, deletedAt, new CourseDeletedEvent(1L))));
+        projection.onCoursesCreated(List.of(record(CREATED.topic(), 0, deletedAt + 1, new CourseCreatedEvent(2L, "Autre", DATE, 1, 0L))));
+
+        // When
+        projection.onContainerIdle(new ListenerContainerIdleEvent(this, this, 0L, "read-model",
+                List.of(UPDATED, INVALIDATED), null, false));
+        projection.onCoursesCreated(List.of(record(CREATED.topic(), 1, deletedAt + 2, new CourseCreatedEvent(1L, "Nouvelle", DATE, 5, 0L))));
+
+        // Then
+        assertTrue(projection.findSummaryById(new CourseId(1L)).isPresent());
+    }
+}
@@ -2,11 +2,17 @@ package com.pmu.courses_manager.unit;
 
 import com.pmu.courses_manager.application.exception.CourseExisteDejaException;
 import com.pmu.courses_manager.application.exception.CourseInexistanteException;
+import com.pmu.courses_manager.application.exception.CourseVersionMismatchException;
 import com.pmu.courses_manager.domain.model.Course;
+import com.pmu.courses_manager.domain.model.CourseCursor;
 import com.pmu.courses_manager.domain.model.CourseId;
+import com.pmu.courses_manager.domain.model.CoursePage;
+import com.pmu.courses_manager.domain.model.CourseSummary;
 import com.pmu.courses_manager.domain.port.out.CourseEventPort;
 import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.CourseReadModelPort;
 import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
+import com.pmu.courses_manager.domain.port.in.CourseManagementUseCase;
 import com.pmu.courses_manager.domain.service.CourseService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +45,9 @@ public class CourseServiceTest {
     @Mock
     private OutboxEventPersistencePort outboxEventPersistencePort;
 
+    @Mock
+    private CourseReadModelPort courseReadModelPort;
+
     private CourseService courseService;
 
     private static final String NOM_VALIDE = "Course de Test";
@@ -46,7 +56,7 @@ public class CourseServiceTest {
 
     @BeforeEach
     void setUp() {
-        courseService = new CourseService(coursePersistencePort, courseEventPort, outboxEventPersistencePort);
+        courseService = new CourseService(coursePersistencePort, courseEventPort, outboxEventPersistencePort, courseReadModelPort);
     }
 
     @Nested
@@ -120,12 +130,46 @@ public class CourseServiceTest {
 
             // When & Then
             assertThrows(CourseInexistanteException.class, () -> {
-                courseService.updateCourse(courseId, "Nouveau nom", LocalDate.now(), 2);
+                courseService.updateCourse(courseId, "Nouveau nom", LocalDate.now(), 2, null);
             });
 
             verify(coursePersistencePort).findById(courseId);
             verify(coursePersistencePort, never()).save(any(Course.class));
         }
+
+        @Test
+        @DisplayName("Doit rejeter la mise à jour si la version attendue n'est plus la version courante")
+        void shouldRejectUpdateOnVersionMismatch() {
+            // Given
+            CourseId courseId = new CourseId(1L);
+            Course course = Course.reconstitute(courseId, "Prix", LocalDate.of(2025, 5, 5), 1, 4L, List.of());
+            when(coursePersistencePort.findById(courseId)).thenReturn(Optional.of(course));
+
+            // When & Then
+            assertThrows(CourseVersionMismatchException.class,
+                    () -> courseService.updateCourse(courseId, "Nouveau nom", null, null, 3L));
+            verify(coursePersistencePort, never()).save(any(Course.class));
+            verify(outboxEventPersistencePort, never()).saveCourseInvalidatedEvent(any(CourseId.class));
+        }
+
+        @Test
+        @DisplayName("Doit mettre à jour la course quand la version attendue est la version courante")
+        void shouldUpdateWhenVersionMatches() {
+            // Given
+            CourseId courseId = new CourseId(1L);
+            Course course = Course.reconstitute(courseId, "Prix", LocalDate.of(2025, 5, 5), 1, 4L, List.of());
+            when(coursePersistencePort.findById(courseId)).thenReturn(Optional.of(course));
+            when(coursePersistencePort.save(course)).thenReturn(course);
+
+            // When
+            courseService.updateCourse(courseId, "Nouveau nom", null, null, 4L);
+
+            // Then
+            verify(coursePersistencePort).save(course);
+            assertEquals("Nouveau nom", course.getNom());
+            verify(outboxEventPersistencePort).saveUpdatedCourseEvent(course);
+            verify(outboxEventPersistencePort).saveCourseInvalidatedEvent(courseId);
+        }
     }
 
     @Nested
@@ -144,6 +188,8 @@ public class CourseServiceTest {
 
             // Then
             verify(coursePersistencePort).delete(courseId);
+            verify(outboxEventPersistencePort).saveDeletedCourseEvent(courseId);
+            verify(outboxEventPersistencePort).saveCourseInvalidatedEvent(courseId);
         }
 
         @Test
@@ -194,6 +240,100 @@ public class CourseServiceTest {
                 courseService.getCourseById(courseId);
             });
         }
+
+        @Test
+        @DisplayName("Doit récupérer une course hors cache par son ID")
+        void shouldGetLatestCourseById() {
+            // Given
+            CourseId courseId = new CourseId(1L);
+            Course course = mock(Course.class);
+            when(coursePersistencePort.findLatestById(courseId)).thenReturn(Optional.of(course));
+
+            // When
+            Course result = courseService.getLatestCourseById(courseId);
+
+            // Then
+            assertEquals(course, result);
+            verify(coursePersistencePort, never()).findById(courseId);
+        }
+
+        @Test
+        @DisplayName("Doit récupérer le résumé d'une course sans ses participants")
+        void shouldGetCourseSummaryById() {
+            // Given
+            CourseId courseId = new CourseId(1L);
+            CourseSummary summary = new CourseSummary(courseId, NOM_VALIDE, DATE_VALIDE, NUMERO_VALIDE);
+            when(coursePersistencePort.findSummaryById(courseId)).thenReturn(Optional.of(summary));
+
+            // When
+            CourseSummary result = courseService.getCourseSummaryById(courseId);
+
+            // Then
+            assertEquals(summary, result);
+            verify(coursePersistencePort, never()).findById(any(CourseId.class));
+        }
+
+        @Test
+        @DisplayName("Doit servir le résumé depuis la projection de lecture sans interroger la base")
+        void shouldServeSummaryFromReadModel() {
+            // Given
+            CourseId courseId = new CourseId(1L);
+            CourseSummary summary = new CourseSummary(courseId, NOM_VALIDE, DATE_VALIDE, NUMERO_VALIDE);
+            when(courseReadModelPort.findSummaryById(courseId)).thenReturn(Optional.of(summary));
+
+            // When
+            CourseSummary result = courseService.getCourseSummaryById(courseId);
+
+            // Then
+            assertEquals(summary, result);
+            verifyNoInteractions(coursePersistencePort);
+        }
+
+        @Test
+        @DisplayName("Doit renvoyer un curseur quand une page suivante existe")
+        void shouldReturnNextCursorWhenMoreCoursesExist() {
+            // Given
+            CourseSummary first = new CourseSummary(new CourseId(1L), NOM_VALIDE, DATE_VALIDE, 1);
+            CourseSummary second = new CourseSummary(new CourseId(2L), NOM_VALIDE, DATE_VALIDE, 2);
+            CourseSummary third = new CourseSummary(new CourseId(3L), NOM_VALIDE, DATE_VALIDE, 3);
+            when(coursePersistencePort.findPage(null, 3)).thenReturn(List.of(first, second, third));
+
+            // When
+            CoursePage page = courseService.getCourses(null, 2);
+
+            // Then
+            assertEquals(List.of(first, second), page.courses());
+            assertEquals(new CourseCursor(DATE_VALIDE, 2, 2L), page.next());
+        }
+
+        @Test
+        @DisplayName("Ne doit pas renvoyer de curseur sur la dernière page")
+        void shouldNotReturnCursorOnLastPage() {
+            // Given
+            CourseCursor after = new CourseCursor(DATE_VALIDE, 2, 2L);
+            CourseSummary third = new CourseSummary(new CourseId(3L), NOM_VALIDE, DATE_VALIDE, 3);
+            when(coursePersistencePort.findPage(after, 3)).thenReturn(List.of(third));
+
+            // When
+            CoursePage page = courseService.getCourses(after, 2);
+
+            // Then
+            assertEquals(List.of(third), page.courses());
+            assertFalse(page.hasNext());
+        }
+
+        @Test
+        @DisplayName("Doit borner la taille de page")
+        void shouldBoundPageSize() {
+            // Given
+            when(coursePersistencePort.findPage(null, CourseManagementUseCase.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+            // When
+            courseService.getCourses(null, 10_000);
+
+            // Then
+            verify(coursePersistencePort).findPage(null, CourseManagementUseCase.MAX_PAGE_SIZE + 1);
+        }
     }
 }
 
@@ -0,0 +1,63 @@
+package com.pmu.courses_manager.unit;
+
+import com.pmu.courses_manager.infrastructure.adapter.messaging.DedupeWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la fenêtre de déduplication des événements consommés
+ */
+class DedupeWindowTest {
+
+    private final Clock clock = mock(Clock.class);
+
+    @Test
+    @DisplayName("Doit détecter un doublon dans la fenêtre")
+    void shouldDetectDuplicateWithinWindow() {
+        // Given
+        when(clock.millis()).thenReturn(0L, 1_000L);
+        DedupeWindow window = new DedupeWindow(10, Duration.ofMinutes(1), clock);
+
+        // When & Then
+        assertTrue(window.firstSeen("a"));
+        assertFalse(window.firstSeen("a"));
+    }
+
+    @Test
+    @DisplayName("Doit oublier un identifiant après l'expiration de la fenêtre")
+    void shouldForgetIdsAfterWindow() {
+        // Given
+        when(clock.millis()).thenReturn(0L, 60_000L);
+        DedupeWindow window = new DedupeWindow(10, Duration.ofMinutes(1), clock);
+
+        // When & Then
+        assertTrue(window.firstSeen("a"));
+        assertTrue(window.firstSeen("a"));
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    @DisplayName("Ne doit pas dépasser le nombre maximal d'identifiants retenus")
+    void shouldEvictOldestIdsBeyondCapacity() {
+        // Given
+        when(clock.millis()).thenReturn(0L);
+        DedupeWindow window = new DedupeWindow(2, Duration.ofMinutes(1), clock);
+
+        // When
+        window.firstSeen("a");
+        window.firstSeen("b");
+        window.firstSeen("c");
+
+        // Then
+        assertEquals(2, window.size());
+        assertTrue(window.firstSeen("a"));
+        assertFalse(window.firstSeen("c"));
+    }
+}
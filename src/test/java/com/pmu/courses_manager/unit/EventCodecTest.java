@@ -0,0 +1,132 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.CourseCreatedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.ParticipantAddedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les codecs d'événements
+ */
+class EventCodecTest {
+
+    private static final String JSON = "application/json";
+    private static final String CBOR = "application/cbor";
+
+    private final EventCodecs eventCodecs = new EventCodecs(
+            List.of(new JacksonEventCodec(JSON, new ObjectMapper().registerModule(new JavaTimeModule())),
+                    new JacksonEventCodec(CBOR, CBORMapper.builder().addModule(new JavaTimeModule()).build())),
+            CBOR,
+            JSON);
+
+    @Test
+    @DisplayName("Doit décoder un événement encodé en CBOR")
+    void shouldRoundTripCbor() {
+        // Given
+        CourseCreatedEvent event = new CourseCreatedEvent(42L, "Prix d'Amérique", LocalDate.of(2025, 1, 26), 7);
+        EventCodec codec = eventCodecs.writer();
+
+        // When
+        CourseCreatedEvent decoded = codec.decode(codec.encode(event), CourseCreatedEvent.class);
+
+        // Then
+        assertEquals(CBOR, codec.contentType());
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    @DisplayName("L'encodage CBOR doit être plus compact que le JSON")
+    void shouldEncodeSmallerThanJson() {
+        // Given
+        ParticipantAddedEvent event = new ParticipantAddedEvent(42L, 1337L, "Idao de Tillard", 12);
+
+        // When
+        byte[] cbor = eventCodecs.forContentType(CBOR).encode(event);
+        byte[] json = eventCodecs.forContentType(JSON).encode(event);
+
+        // Then
+        assertTrue(cbor.length < json.length, () -> "CBOR " + cbor.length + " octets, JSON " + json.length + " octets");
+    }
+
+    @Test
+    @DisplayName("Doit décoder en JSON un message sans type de contenu")
+    void shouldFallBackToJsonWithoutContentType() {
+        // Given
+        byte[] legacy = "{\"courseId\":42,\"participantId\":1,\"nom\":\"Bold Eagle\",\"dossard\":3}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // When
+        ParticipantAddedEvent decoded = eventCodecs.forContentType(null).decode(legacy, ParticipantAddedEvent.class);
+
+        // Then
+        assertEquals(42L, decoded.getCourseId());
+        assertEquals("Bold Eagle", decoded.getNom());
+        assertEquals(3, decoded.getDossard());
+    }
+
+    @Test
+    @DisplayName("Le décodage direct des octets doit donner le même événement que le passage par une String")
+    void shouldDecodeBytesLikeStringPath() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("course-created", 0, 0L, "42",
+                eventCodecs.forContentType(JSON).encode(
+                        new CourseCreatedEvent(42L, "Prix d'Amérique", LocalDate.of(2025, 1, 26), 7)));
+        record.headers().add(EventCodec.CONTENT_TYPE_HEADER, JSON.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        CourseCreatedEvent viaString = objectMapper.readValue(
+                new String(record.value(), StandardCharsets.UTF_8), CourseCreatedEvent.class);
+        CourseCreatedEvent viaBytes = eventCodecs.decode(record, CourseCreatedEvent.class);
+
+        // Then
+        assertEquals(viaString, viaBytes);
+    }
+
+    @Test
+    @DisplayName("Doit décoder un message publié avant l'introduction des codecs")
+    void shouldDecodeBaselineDoubleEncodedMessage() throws Exception {
+        // Given : l'ancien producteur passait au JsonSerializer l'événement déjà sérialisé en String
+        String payload = new ObjectMapper().registerModule(new JavaTimeModule())
+                .writeValueAsString(new ParticipantAddedEvent(42L, 1L, "Bold Eagle", 3));
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value;
+        try (JsonSerializer<Object> serializer = new JsonSerializer<>()) {
+            value = serializer.serialize("participant-added", headers, payload);
+        }
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("participant-added", 0, 0L, 0L,
+                TimestampType.CREATE_TIME, 0, value.length, "42", value, headers, Optional.empty());
+
+        // When
+        ParticipantAddedEvent decoded = eventCodecs.decode(record, ParticipantAddedEvent.class);
+
+        // Then
+        assertNull(headers.lastHeader(EventCodec.CONTENT_TYPE_HEADER));
+        assertEquals(42L, decoded.getCourseId());
+        assertEquals("Bold Eagle", decoded.getNom());
+        assertEquals(3, decoded.getDossard());
+    }
+
+    @Test
+    @DisplayName("Doit rejeter un type de contenu inconnu")
+    void shouldRejectUnknownContentType() {
+        assertThrows(IllegalArgumentException.class, () -> eventCodecs.forContentType("application/avro"));
+    }
+}
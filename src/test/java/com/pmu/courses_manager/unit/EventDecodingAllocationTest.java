@@ -0,0 +1,79 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.ParticipantAddedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compare les octets alloués par enregistrement entre l'ancien chemin de consommation
+ * (en-tête et valeur convertis en String puis parsés) et le décodage direct des octets.
+ * Seul l'ordre relatif est vérifié, l'essentiel de l'allocation restant l'état de parsing propre à Jackson.
+ * <p>
+ * Mesure sensible à la JVM et au JIT : exclue de la suite par défaut, elle se lance avec
+ * {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark}.
+ */
+@Tag("benchmark")
+class EventDecodingAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int RECORDS = 50_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final EventCodec codec = new JacksonEventCodec("application/json", objectMapper);
+    private final EventCodecs eventCodecs = new EventCodecs(List.of(codec), "application/json", "application/json");
+
+    private long allocatedBytesPerRecord(ConsumerRecord<String, byte[]> record,
+                                         Consumer<ConsumerRecord<String, byte[]>> path) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            path.accept(record);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < RECORDS; i++) {
+            path.accept(record);
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / RECORDS;
+    }
+
+    @Test
+    @DisplayName("Le décodage direct des octets ne doit pas allouer plus que le passage par une String")
+    void shouldNotAllocateMoreThanStringPath() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+        // Given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("participant-added", 0, 0L, "1",
+                codec.encode(new ParticipantAddedEvent(42L, 1337L, "Idao de Tillard", 12)));
+        record.headers().add(EventCodec.CONTENT_TYPE_HEADER, "application/json".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        long viaString = allocatedBytesPerRecord(record, r -> {
+            try {
+                String contentType = new String(r.headers().lastHeader(EventCodec.CONTENT_TYPE_HEADER).value(),
+                        StandardCharsets.UTF_8);
+                String message = new String(r.value(), StandardCharsets.UTF_8);
+                objectMapper.readValue(message, ParticipantAddedEvent.class);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long viaBytes = allocatedBytesPerRecord(record, r -> eventCodecs.decode(r, ParticipantAddedEvent.class));
+
+        // Then
+        assertTrue(viaBytes <= viaString, () -> "via byte[] " + viaBytes + " > via String " + viaString);
+    }
+}
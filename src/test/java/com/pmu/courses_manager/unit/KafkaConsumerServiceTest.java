@@ -0,0 +1,88 @@
+package com.pmu.courses_manager.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodecs;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventHeaders;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.JacksonEventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.KafkaConsumerService;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.ParticipantAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le consommateur des événements de course
+ */
+class KafkaConsumerServiceTest {
+
+    private final EventCodec codec = new JacksonEventCodec("application/json", new ObjectMapper());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaConsumerService consumerService = new KafkaConsumerService(
+            new EventCodecs(List.of(codec), "application/json", "application/json"),
+            meterRegistry, 100, Duration.ofHours(1));
+
+    private ConsumerRecord<String, byte[]> record(String topic, UUID eventId, byte[] payload) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(topic, 0, 0L, "1", payload);
+        record.headers().add(EventHeaders.EVENT_ID, eventId.toString().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private double counter(String name, String topic) {
+        return meterRegistry.find(name).tag("topic", topic).counters().stream()
+                .mapToDouble(c -> c.count())
+                .sum();
+    }
+
+    @Test
+    @DisplayName("Doit écarter un événement déjà traité")
+    void shouldDropDuplicateEvent() {
+        // Given
+        ConsumerRecord<String, byte[]> record = record("participant-added", UUID.randomUUID(),
+                codec.encode(new ParticipantAddedEvent(1L, 10L, "A", 1)));
+
+        // When
+        consumerService.participantAddListner(record);
+        consumerService.participantAddListner(record);
+
+        // Then
+        assertEquals(1, counter("events.consumed", "participant-added"));
+    }
+
+    @Test
+    @DisplayName("Doit compter l'échec et laisser passer la reprise du même événement")
+    void shouldCountFailureAndAcceptRetryOfSameEvent() {
+        // Given
+        UUID eventId = UUID.randomUUID();
+        ConsumerRecord<String, byte[]> poison = record("participant-added", eventId,
+                "pas du json".getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, byte[]> retry = record("participant-added-retry-0", eventId,
+                codec.encode(new ParticipantAddedEvent(1L, 10L, "A", 1)));
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> consumerService.participantAddListner(poison));
+        consumerService.participantAddListner(retry);
+
+        // Then
+        assertEquals(1, counter("events.consume.failures", "participant-added"));
+        assertEquals(1, counter("events.consumed", "participant-added-retry-0"));
+    }
+
+    @Test
+    @DisplayName("Doit compter les événements envoyés en DLT")
+    void shouldCountDeadLetteredEvents() {
+        // When
+        consumerService.deadLetter(record("participant-added-dlt", UUID.randomUUID(), new byte[0]), "boom");
+
+        // Then
+        assertEquals(1, counter("events.dead.lettered", "participant-added-dlt"));
+    }
+}
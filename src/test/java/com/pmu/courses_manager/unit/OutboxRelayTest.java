@@ -0,0 +1,354 @@
+package com.pmu.courses_manager.unit;
+
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventCodec;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.EventHeaders;
+import com.pmu.courses_manager.infrastructure.adapter.messaging.OutboxRelay;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.ChangeFeedSequenceJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxEventsRecordedEvent;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.OutboxShardJpaRepository;
+import com.pmu.courses_manager.infrastructure.adapter.persistence.entities.OutboxEvent;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour le relais de l'outbox
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int WORKERS = 1;
+
+    @Mock
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Mock
+    private OutboxShardJpaRepository outboxShardJpaRepository;
+
+    @Mock
+    private ChangeFeedSequenceJpaRepository changeFeedSequenceJpaRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(outboxShardJpaRepository.tryLock(0)).thenReturn(List.of(0));
+        outboxRelay = new OutboxRelay(outboxJpaRepository, outboxShardJpaRepository, changeFeedSequenceJpaRepository, kafkaTemplate,
+                transactionTemplate, Runnable::run, WORKERS, BATCH_SIZE, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(30), meterRegistry, circuitBreakerRegistry);
+    }
+
+    private OutboxEvent outboxEvent(String payload) {
+        return outboxEvent("1", payload);
+    }
+
+    private OutboxEvent outboxEvent(String key, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(UUID.randomUUID());
+        event.setTopic("participant-added");
+        event.setAggregateKey(key);
+        event.setPayload(payload.getBytes(StandardCharsets.UTF_8));
+        event.setContentType("application/json");
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    /**
+     * Enregistrement Kafka attendu : topic, clé d'agrégat, charge utile, type de contenu et identifiant
+     */
+    private static ProducerRecord<String, byte[]> record(String key, String payload) {
+        return argThat(record -> record != null
+                && record.topic().equals("participant-added")
+                && key.equals(record.key())
+                && Arrays.equals(payload.getBytes(StandardCharsets.UTF_8), record.value())
+                && record.headers().lastHeader(EventCodec.CONTENT_TYPE_HEADER) != null
+                && record.headers().lastHeader(EventHeaders.EVENT_ID) != null);
+    }
+
+    @Test
+    @DisplayName("Ne doit marquer comme envoyés que les événements acquittés")
+    void shouldMarkOnlyAcknowledgedEventsAsSent() {
+        // Given
+        OutboxEvent acknowledged = outboxEvent("1", "ok");
+        OutboxEvent failed = outboxEvent("2", "ko");
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE)).thenReturn(List.of(acknowledged, failed));
+        when(kafkaTemplate.send(record("1", "ok")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(record("2", "ko")))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponible")));
+
+        // When
+        outboxRelay.publishOutboxEvents();
+
+        // Then
+        verify(outboxJpaRepository).markAsSent(List.of(acknowledged.getId()));
+        // Un lot en échec interrompt la passe
+        verify(outboxJpaRepository, times(1)).claimUnsentBatch(0, WORKERS, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Doit enchaîner les lots jusqu'à vider le backlog")
+    void shouldLoopUntilBacklogIsDrained() {
+        // Given
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE))
+                .thenReturn(List.of(outboxEvent("1"), outboxEvent("2")))
+                .thenReturn(List.of(outboxEvent("3")));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.publishOutboxEvents();
+
+        // Then
+        verify(outboxJpaRepository, times(2)).claimUnsentBatch(0, WORKERS, BATCH_SIZE);
+        verify(outboxJpaRepository, times(2)).markAsSent(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Doit publier dès le commit d'un événement d'outbox")
+    void shouldDispatchOnOutboxEventsRecorded() {
+        // Given
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE)).thenReturn(List.of(outboxEvent("1")));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.onOutboxEventsRecorded(new OutboxEventsRecordedEvent(1));
+
+        // Then
+        verify(kafkaTemplate).send(record("1", "1"));
+        verify(outboxJpaRepository).markAsSent(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Doit numéroter les événements commités à la suite du compteur, sous son verrou")
+    void shouldSequenceCommittedEventsUnderCounterLock() {
+        // Given : trois événements en attente, numérotés en deux lots
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(changeFeedSequenceJpaRepository.lock()).thenReturn(10L, 12L);
+        when(outboxJpaRepository.findUnsequenced(Limit.of(BATCH_SIZE)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        // When
+        int sequenced = outboxRelay.sequenceChanges();
+
+        // Then : les événements ne sont lus qu'une fois le compteur verrouillé
+        assertEquals(3, sequenced);
+        InOrder inOrder = inOrder(changeFeedSequenceJpaRepository, outboxJpaRepository);
+        inOrder.verify(changeFeedSequenceJpaRepository).lock();
+        inOrder.verify(outboxJpaRepository).findUnsequenced(Limit.of(BATCH_SIZE));
+        inOrder.verify(outboxJpaRepository).assignSequence(first, 11L);
+        inOrder.verify(outboxJpaRepository).assignSequence(second, 12L);
+        inOrder.verify(changeFeedSequenceJpaRepository).advance(12L);
+        inOrder.verify(changeFeedSequenceJpaRepository).lock();
+        inOrder.verify(outboxJpaRepository).findUnsequenced(Limit.of(BATCH_SIZE));
+        inOrder.verify(outboxJpaRepository).assignSequence(third, 13L);
+        inOrder.verify(changeFeedSequenceJpaRepository).advance(13L);
+    }
+
+    @Test
+    @DisplayName("Ne doit pas avancer le compteur sans événement à numéroter")
+    void shouldNotAdvanceCounterWithoutPendingEvents() {
+        // Given
+        when(changeFeedSequenceJpaRepository.lock()).thenReturn(10L);
+        when(outboxJpaRepository.findUnsequenced(Limit.of(BATCH_SIZE))).thenReturn(List.of());
+
+        // When
+        int sequenced = outboxRelay.sequenceChanges();
+
+        // Then
+        assertEquals(0, sequenced);
+        verify(changeFeedSequenceJpaRepository, never()).advance(anyLong());
+        verify(outboxShardJpaRepository, never()).tryLock(anyInt());
+    }
+
+    @Test
+    @DisplayName("Ne doit plus rien envoyer pour une clé après l'échec d'un de ses événements")
+    void shouldStopKeyAtFirstFailure() {
+        // Given : le deuxième des trois événements de la clé 1 échoue
+        OutboxEvent first = outboxEvent("1", "premier");
+        OutboxEvent failed = outboxEvent("1", "second");
+        OutboxEvent third = outboxEvent("1", "troisieme");
+        OutboxEvent otherKey = outboxEvent("2", "autre");
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE)).thenReturn(List.of(first, failed, otherKey, third));
+        when(kafkaTemplate.send(record("1", "premier")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(record("1", "second")))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponible")));
+        when(kafkaTemplate.send(record("2", "autre")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.publishOutboxEvents();
+
+        // Then : le troisième n'est jamais publié avant la reprise du deuxième
+        verify(kafkaTemplate, never()).send(record("1", "troisieme"));
+        verify(outboxJpaRepository).markAsSent(List.of(first.getId(), otherKey.getId()));
+    }
+
+    @Test
+    @DisplayName("Doit attendre l'acquittement d'un événement avant d'envoyer le suivant de même clé")
+    void shouldSendEventsOfSameKeyOneAfterAnother() {
+        // Given
+        OutboxEvent first = outboxEvent("1", "premier");
+        OutboxEvent second = outboxEvent("1", "second");
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+        CompletableFuture<SendResult<String, byte[]>> firstAck = new CompletableFuture<>();
+        when(kafkaTemplate.send(record("1", "premier"))).thenAnswer(invocation -> {
+            // Acquitté plus tard, depuis un autre thread
+            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> firstAck.complete(mock(SendResult.class)));
+            return firstAck;
+        });
+        when(kafkaTemplate.send(record("1", "second"))).thenAnswer(invocation -> {
+            assertTrue(firstAck.isDone());
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+
+        // When
+        outboxRelay.publishOutboxEvents();
+
+        // Then
+        verify(outboxJpaRepository).markAsSent(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("Doit ignorer un shard verrouillé par une autre instance")
+    void shouldSkipShardLockedByAnotherInstance() {
+        // Given
+        when(outboxShardJpaRepository.tryLock(0)).thenReturn(List.of());
+
+        // When
+        int claimed = outboxRelay.publishOutboxEvents();
+
+        // Then
+        assertEquals(0, claimed);
+        verify(outboxJpaRepository, never()).claimUnsentBatch(anyInt(), anyInt(), anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Doit publier l'identifiant de la ligne d'outbox en en-tête")
+    void shouldPublishOutboxIdAsEventIdHeader() {
+        // Given
+        OutboxEvent event = outboxEvent("1");
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE)).thenReturn(List.of(event));
+        ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.captor();
+        when(kafkaTemplate.send(sent.capture()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.publishOutboxEvents();
+
+        // Then
+        ConsumerRecord<String, byte[]> received = new ConsumerRecord<>("participant-added", 0, 0L, "1", sent.getValue().value());
+        sent.getValue().headers().forEach(header -> received.headers().add(header));
+        assertEquals(event.getId().toString(), EventHeaders.eventId(received));
+        assertNotNull(EventHeaders.timestamp(received, EventHeaders.CREATED_AT));
+        assertNotNull(EventHeaders.timestamp(received, EventHeaders.SENT_AT));
+    }
+
+    @Test
+    @DisplayName("Doit mesurer le temps d'attente dans l'outbox et la latence d'envoi")
+    void shouldRecordDwellAndSendLatency() {
+        // Given
+        OutboxEvent event = outboxEvent("1");
+        event.setCreatedAt(LocalDateTime.now().minusSeconds(5));
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE)).thenReturn(List.of(event));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.publishOutboxEvents();
+
+        // Then
+        assertEquals(1, meterRegistry.get("outbox.dwell").timer().count());
+        assertTrue(meterRegistry.get("outbox.dwell").timer().totalTime(TimeUnit.SECONDS) >= 5);
+        assertEquals(1, meterRegistry.get("outbox.send").timer().count());
+    }
+
+    @Test
+    @DisplayName("Ne doit mesurer le temps d'attente qu'une fois, lorsque l'événement est marqué envoyé")
+    void shouldRecordDwellOnceWhenEventIsMarkedSent() {
+        // Given : le premier envoi échoue, la passe suivante le reprend
+        OutboxEvent event = outboxEvent("1");
+        when(outboxJpaRepository.claimUnsentBatch(0, WORKERS, BATCH_SIZE)).thenReturn(List.of(event));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponible")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.publishOutboxEvents();
+        assertEquals(0, meterRegistry.get("outbox.dwell").timer().count());
+        outboxRelay.publishOutboxEvents();
+
+        // Then
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        verify(outboxJpaRepository).markAsSent(List.of(event.getId()));
+        assertEquals(1, meterRegistry.get("outbox.dwell").timer().count());
+    }
+
+    @Test
+    @DisplayName("Ne doit rien réserver tant que le disjoncteur Kafka est ouvert")
+    void shouldNotClaimWhileCircuitIsOpen() {
+        // Given
+        circuitBreakerRegistry.circuitBreaker("kafkaPublish").transitionToOpenState();
+
+        // When
+        int claimed = outboxRelay.publishOutboxEvents();
+
+        // Then
+        assertEquals(0, claimed);
+        verifyNoInteractions(outboxJpaRepository, kafkaTemplate);
+    }
+}
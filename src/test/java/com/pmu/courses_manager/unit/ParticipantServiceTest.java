@@ -8,6 +8,7 @@ import com.pmu.courses_manager.domain.model.Participant;
 import com.pmu.courses_manager.domain.model.ParticipantId;
 import com.pmu.courses_manager.domain.port.out.CourseEventPort;
 import com.pmu.courses_manager.domain.port.out.CoursePersistencePort;
+import com.pmu.courses_manager.domain.port.out.DossardAllocatorPort;
 import com.pmu.courses_manager.domain.port.out.OutboxEventPersistencePort;
 import com.pmu.courses_manager.domain.port.out.ParticipantPersistencePort;
 import com.pmu.courses_manager.domain.service.ParticipantService;
@@ -27,6 +28,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +46,8 @@ class ParticipantServiceTest {
     private ParticipantPersistencePort participantPersistencePort;
     @Mock
     private OutboxEventPersistencePort  outboxEventPersistencePort;
+    @Mock
+    private DossardAllocatorPort dossardAllocatorPort;
 
     @InjectMocks
     private ParticipantService participantService;
@@ -70,7 +75,8 @@ class ParticipantServiceTest {
         // Given
         String nom = "Nouveau Participant";
 
-        when(coursePersistencePort.findById(courseId)).thenReturn(Optional.of(course));
+        when(coursePersistencePort.existsById(courseId)).thenReturn(true);
+        when(dossardAllocatorPort.allocate(courseId, 1)).thenReturn(42);
 
         when(participantPersistencePort.save(eq(courseId), any(Participant.class)))
                 .thenAnswer(invocation -> {
@@ -88,6 +94,44 @@ class ParticipantServiceTest {
         verify(participantPersistencePort).save(eq(courseId), participantCaptor.capture());
         Participant capturedParticipant = participantCaptor.getValue();
         assertEquals(nom, capturedParticipant.getNom());
+        assertEquals(42, capturedParticipant.getDossard());
+        verify(coursePersistencePort, never()).findById(any(CourseId.class));
+    }
+
+    @Test
+    @DisplayName("Doit inscrire plusieurs participants avec des dossards contigus")
+    void shouldAddParticipantsWithContiguousDossards() {
+        // Given
+        when(coursePersistencePort.existsById(courseId)).thenReturn(true);
+        when(dossardAllocatorPort.allocate(courseId, 3)).thenReturn(8);
+        when(participantPersistencePort.saveAll(eq(courseId), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        // When
+        List<Participant> result = participantService.addParticipants(courseId, List.of("A", "B", "C"));
+
+        // Then
+        assertEquals(List.of(8, 9, 10), result.stream().map(Participant::getDossard).toList());
+        assertEquals(List.of("A", "B", "C"), result.stream().map(Participant::getNom).toList());
+        verify(dossardAllocatorPort, times(1)).allocate(courseId, 3);
+        verify(outboxEventPersistencePort).saveAddedParticipantEvents(courseId, result);
+        verify(outboxEventPersistencePort).saveCourseInvalidatedEvent(courseId);
+        verify(participantPersistencePort, never()).save(any(CourseId.class), any(Participant.class));
+    }
+
+    @Test
+    @DisplayName("Doit rejeter l'inscription groupée lorsque la course n'existe pas")
+    void shouldRejectBulkRegistrationWhenCourseNotFound() {
+        // Given
+        when(coursePersistencePort.existsById(courseId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(CourseInexistanteException.class, () -> {
+            participantService.addParticipants(courseId, List.of("A"));
+        });
+
+        verify(participantPersistencePort, never()).saveAll(any(CourseId.class), anyList());
+        verify(outboxEventPersistencePort, never()).saveAddedParticipantEvents(any(CourseId.class), anyList());
     }
 
     @Test
@@ -97,15 +141,16 @@ class ParticipantServiceTest {
         String nom = "Nouveau Participant";
         Integer dossard = 99;
 
-        when(coursePersistencePort.findById(courseId)).thenReturn(Optional.empty());
+        when(coursePersistencePort.existsById(courseId)).thenReturn(false);
 
         // When & Then
         assertThrows(CourseInexistanteException.class, () -> {
             participantService.addParticipant(courseId, nom);
         });
 
-        verify(coursePersistencePort).findById(courseId);
+        verify(coursePersistencePort).existsById(courseId);
         verify(participantPersistencePort, never()).save(any(CourseId.class), any(Participant.class));
+        verify(dossardAllocatorPort, never()).allocate(any(CourseId.class), anyInt());
         verify(courseEventPort, never()).publishParticipantAdded(any(CourseId.class), any(Participant.class));
     }
 